@@ -74,4 +74,12 @@ public interface FrontEndExternalAPI {
 
   void setActiveTurtles(List<Integer> iDs);
 
+  /**
+   * Chooses whether turtle moves are drawn straight to their end point in the next frame, instead
+   * of being animated step by step
+   *
+   * @param instant true to skip the animation
+   */
+  void setInstantRender(boolean instant);
+
 }
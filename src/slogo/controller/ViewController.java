@@ -11,6 +11,7 @@ import javax.swing.text.html.ImageView;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
 import slogo.model.execution.Turtle;
 import slogo.view.ScreenCreator;
+import slogo.view.TurtleEventQueue;
 
 /**
  * @author Ji Yun Hyo
@@ -19,6 +20,7 @@ public class ViewController implements FrontEndExternalAPI {
 
   BackEndExternalAPI modelController;
   ScreenCreator screenCreator;
+  private final TurtleEventQueue turtleEvents;
   private String userCommandInputs;
   private final Deque<String> commandHistory;
 
@@ -31,6 +33,7 @@ public class ViewController implements FrontEndExternalAPI {
    */
   public ViewController() {
     screenCreator = new ScreenCreator(this);
+    turtleEvents = screenCreator.getTurtleEvents();
     commandHistory = new ArrayDeque<>();
     userDefinedHistory = new HashMap<>();
   }
@@ -120,17 +123,17 @@ public class ViewController implements FrontEndExternalAPI {
   @Override
   public void setTurtleAngle(double angle) {
 //    System.out.println("Angle of Turtle: " + angle);
-    screenCreator.updateCommandQueue("Angles", Collections.singletonList(angle));
+    turtleEvents.add(TurtleEventQueue.ANGLE, angle);
   }
 
   @Override
   public void setPenState(double penState) {
-    screenCreator.updateCommandQueue("Pen", Collections.singletonList(penState));
+    turtleEvents.add(TurtleEventQueue.PEN, penState);
   }
 
   @Override
   public void setTurtleVisibility(double visibility) {
-    screenCreator.updateCommandQueue("Visibility", Collections.singletonList(visibility));
+    turtleEvents.add(TurtleEventQueue.VISIBILITY, visibility);
   }
 
   @Override
@@ -146,8 +149,7 @@ public class ViewController implements FrontEndExternalAPI {
 
   @Override
   public void setTurtleShape(int index) {
-    double in = index;
-    screenCreator.updateCommandQueue("PenColor", Collections.singletonList(in));
+    turtleEvents.add(TurtleEventQueue.SHAPE, index);
   }
 
   @Override
@@ -158,7 +160,7 @@ public class ViewController implements FrontEndExternalAPI {
 
   @Override
   public void setPenSize(double penSize) {
-    screenCreator.updateCommandQueue("Thickness", Collections.singletonList(penSize));
+    turtleEvents.add(TurtleEventQueue.THICKNESS, penSize);
   }
 
   @Override
@@ -177,4 +179,9 @@ public class ViewController implements FrontEndExternalAPI {
 //    System.out.println("All active turtles: " + iDs);
   }
 
+  @Override
+  public void setInstantRender(boolean instant) {
+    screenCreator.setInstantRender(instant);
+  }
+
 }
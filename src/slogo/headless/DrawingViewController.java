@@ -0,0 +1,258 @@
+package slogo.headless;
+
+import java.awt.Color;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.ResourceBundle;
+import javax.swing.text.html.ImageView;
+import slogo.ErrorHandler;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.FrontEndExternalAPI;
+import slogo.model.commands.basic_commands.UserDefinedCommand;
+import slogo.model.execution.Turtle;
+
+/**
+ * A front end without a window that turns the turtle updates the model sends into lines. It keeps
+ * track of where each turtle is, how its pen draws, and the palette, and hands every line a pen
+ * draws to drawLine as soon as it is made, so the lines are never kept. The size of the picture,
+ * its colors and the palette are read from the headless preferences, and positions are mapped the
+ * same way as the turtle display: 0, 0 is the middle of the picture, +x is to the right and +y is
+ * up. Only the pen trails are drawn, not the turtles
+ *
+ * @author Ji Yun Hyo
+ */
+public abstract class DrawingViewController implements FrontEndExternalAPI {
+
+  private static final String RESOURCES = DrawingViewController.class.getPackageName()
+      + ".resources.";
+  private static final String PREFERENCES = RESOURCES + "HeadlessPreferences";
+  private static final String COLOR_PALETTES = RESOURCES + "colorpalettes.";
+  private static final int FIRST_TURTLE = 1;
+
+  private final int width;
+  private final int height;
+  private final Map<Integer, Color> palette = new HashMap<>();
+  private final Map<Integer, TurtleState> turtles = new HashMap<>();
+  private final Deque<String> commandHistory = new ArrayDeque<>();
+  private final Color defaultPenColor;
+  private BackEndExternalAPI modelController;
+  private TurtleState currentTurtle;
+  private Color backgroundColor;
+  private Integer penColorIndex;
+  private String language;
+
+  /**
+   * reads the size and colors of the picture from the headless preferences
+   */
+  protected DrawingViewController() {
+    ResourceBundle preferences = ResourceBundle.getBundle(PREFERENCES);
+    ResourceBundle colors = ResourceBundle
+        .getBundle(COLOR_PALETTES + preferences.getString("colorPalette"));
+    for (String key : Collections.list(colors.getKeys())) {
+      palette.put(Integer.parseInt(key), Color.decode(colors.getString(key)));
+    }
+    backgroundColor = Color.decode(preferences.getString("BackgroundColor"));
+    defaultPenColor = Color.decode(preferences.getString("PenColor"));
+    language = preferences.getString("language");
+    width = Integer.parseInt(preferences.getString("Width"));
+    height = Integer.parseInt(preferences.getString("Height"));
+    setActiveTurtle(FIRST_TURTLE);
+  }
+
+  /**
+   * draws one line of a pen trail, in picture coordinates with 0, 0 at the top left
+   *
+   * @param startX    x of the start of the line
+   * @param startY    y of the start of the line
+   * @param endX      x of the end of the line
+   * @param endY      y of the end of the line
+   * @param penColor  the color of the pen that drew the line
+   * @param thickness the width of the pen, in pixels
+   */
+  protected abstract void drawLine(double startX, double startY, double endX, double endY,
+      Color penColor, double thickness);
+
+  /**
+   * removes every line drawn so far
+   */
+  protected abstract void clearLines();
+
+  /**
+   * @return the width of the picture, in pixels
+   */
+  protected int getWidth() {
+    return width;
+  }
+
+  /**
+   * @return the height of the picture, in pixels
+   */
+  protected int getHeight() {
+    return height;
+  }
+
+  /**
+   * @return the color behind the pen trails
+   */
+  protected Color getBackgroundColor() {
+    return backgroundColor;
+  }
+
+  @Override
+  public void setBackGroundColor(int index) {
+    if (palette.containsKey(index)) {
+      backgroundColor = palette.get(index);
+    }
+  }
+
+  @Override
+  public void setTurtleImage(Turtle turtle, ImageView image) {
+  }
+
+  @Override
+  public String getLanguage() {
+    return language;
+  }
+
+  @Override
+  public Queue<String> getCommandHistory() {
+    return commandHistory;
+  }
+
+  @Override
+  public void displayError(String errorMessage) {
+    throw new ErrorHandler(errorMessage);
+  }
+
+  @Override
+  public void setModelController(BackEndExternalAPI modelController) {
+    this.modelController = modelController;
+  }
+
+  @Override
+  public String getUserCommandInput() {
+    return commandHistory.peekFirst();
+  }
+
+  @Override
+  public void processUserCommandInput(String userCommandInput) {
+    commandHistory.offerFirst(userCommandInput);
+    modelController.executeCommand(userCommandInput);
+  }
+
+  @Override
+  public void displayCommandStringOnTextArea(String command) {
+  }
+
+  @Override
+  public void updateFrontEnd(Map<String, Double> variables,
+      Map<String, UserDefinedCommand> userDefinedCommands) {
+  }
+
+  @Override
+  public void setActiveTurtle(int turtleID) {
+    currentTurtle = turtles.computeIfAbsent(turtleID, id -> new TurtleState());
+  }
+
+  @Override
+  public void setTurtlePosition(double xPosition, double yPosition) {
+    double x = width / 2.0 + xPosition;
+    double y = height / 2.0 - yPosition;
+    if (currentTurtle.penDown) {
+      drawLine(currentTurtle.x, currentTurtle.y, x, y, getPenColor(), currentTurtle.penSize);
+    }
+    currentTurtle.x = x;
+    currentTurtle.y = y;
+  }
+
+  @Override
+  public void setTurtleAngle(double angle) {
+  }
+
+  @Override
+  public void setPenState(double penState) {
+    currentTurtle.penDown = penState == 1;
+  }
+
+  @Override
+  public void setTurtleVisibility(double visibility) {
+  }
+
+  @Override
+  public void clearScreen() {
+    clearLines();
+    for (TurtleState turtle : turtles.values()) {
+      turtle.home();
+    }
+  }
+
+  @Override
+  public void setPenColor(int index) {
+    penColorIndex = index;
+  }
+
+  @Override
+  public void setTurtleShape(int index) {
+  }
+
+  @Override
+  public void setPalette(int index, int red, int green, int blue) {
+    palette.put(index, new Color(red, green, blue));
+  }
+
+  @Override
+  public void setPenSize(double penSize) {
+    currentTurtle.penSize = penSize;
+  }
+
+  @Override
+  public void updateCommandQueue(String commandType, List<Double> commandValues) {
+  }
+
+  @Override
+  public void setLanguage(String language) {
+    this.language = language;
+  }
+
+  @Override
+  public void setActiveTurtles(List<Integer> iDs) {
+  }
+
+  @Override
+  public void setInstantRender(boolean instant) {
+  }
+
+  // the pen color is looked up when a line is drawn, so changing the palette entry the pen uses
+  // changes the color of the lines drawn after it
+  private Color getPenColor() {
+    if (penColorIndex == null || !palette.containsKey(penColorIndex)) {
+      return defaultPenColor;
+    }
+    return palette.get(penColorIndex);
+  }
+
+  /**
+   * where a turtle is in the picture and how its pen draws
+   */
+  private class TurtleState {
+
+    private double x;
+    private double y;
+    private boolean penDown = true;
+    private double penSize = 1.0;
+
+    private TurtleState() {
+      home();
+    }
+
+    private void home() {
+      x = width / 2.0;
+      y = height / 2.0;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package slogo.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.ModelController;
+
+/**
+ * Runs SLogo programs without opening a window and saves what each one draws as a PNG, or as an
+ * SVG if -svg is given first. Usage:
+ * <pre>
+ *   HeadlessMain [-svg] outputDirectory program.slogo [program.slogo ...]
+ * </pre>
+ * Each program is run by its own model from a clean start and drawn into its own picture, named
+ * after the program file. A program that stops with an error still has everything it drew before
+ * the error saved, and the error is printed so the rest of the programs can keep going
+ *
+ * @author Ji Yun Hyo
+ */
+public class HeadlessMain {
+
+  private static final String ERROR_MESSAGES = "slogo.view.resources.errormessages.Error";
+  private static final String SVG_OPTION = "-svg";
+  private static final String IMAGE_EXTENSION = ".png";
+  private static final String SVG_EXTENSION = ".svg";
+  private static final String USAGE =
+      "usage: HeadlessMain [-svg] outputDirectory program [program ...]";
+
+  /**
+   * renders every program given after the output directory
+   *
+   * @param args the output format option, then the output directory followed by the program files
+   */
+  public static void main(String[] args) {
+    boolean svg = args.length > 0 && args[0].equals(SVG_OPTION);
+    int first = svg ? 1 : 0;
+    if (args.length - first < 2) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    Path outputDirectory = Paths.get(args[first]);
+    int failures = 0;
+    for (int i = first + 1; i < args.length; i++) {
+      if (!render(Paths.get(args[i]), outputDirectory, svg)) {
+        failures++;
+      }
+    }
+    System.exit(failures == 0 ? 0 : 1);
+  }
+
+  /**
+   * runs one program and writes what it drew into the output directory
+   *
+   * @param program         the file holding the program
+   * @param outputDirectory the directory the picture is written to
+   * @param svg             true to write an SVG, false to write a PNG
+   * @return true if the program ran and its picture was written without an error
+   */
+  public static boolean render(Path program, Path outputDirectory, boolean svg) {
+    String name = program.getFileName().toString();
+    int extension = name.lastIndexOf('.');
+    name = (extension > 0 ? name.substring(0, extension) : name)
+        + (svg ? SVG_EXTENSION : IMAGE_EXTENSION);
+    Path output = outputDirectory.resolve(name);
+    try {
+      Files.createDirectories(outputDirectory);
+      if (svg) {
+        try (SvgViewController viewController = new SvgViewController(output)) {
+          return run(program, viewController);
+        }
+      }
+      RasterViewController viewController = new RasterViewController();
+      boolean succeeded = run(program, viewController);
+      viewController.writeImage(output);
+      return succeeded;
+    } catch (IOException | RuntimeException e) {
+      System.err.println(output + ": " + e.getMessage());
+      return false;
+    }
+  }
+
+  private static boolean run(Path program, DrawingViewController viewController) {
+    BackEndExternalAPI modelController = new ModelController();
+    viewController.setModelController(modelController);
+    modelController.setViewController(viewController);
+    try {
+      viewController.processUserCommandInput(Files.readString(program));
+      return true;
+    } catch (IOException | RuntimeException e) {
+      System.err.println(program + ": " + describe(e, viewController.getLanguage()));
+      return false;
+    }
+  }
+
+  // errors from the model are keys of the error messages, so the message is looked up in the
+  // language the program was run in
+  private static String describe(Exception error, String language) {
+    try {
+      return ResourceBundle.getBundle(ERROR_MESSAGES + language).getString(error.getMessage());
+    } catch (MissingResourceException | NullPointerException e) {
+      return String.valueOf(error.getMessage());
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package slogo.headless;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import slogo.ErrorHandler;
+
+/**
+ * A front end without a window that draws every pen stroke the model sends straight into an image
+ * in memory, with no animation and no JavaFX. The picture can then be written out as a PNG
+ *
+ * @author Ji Yun Hyo
+ */
+public class RasterViewController extends DrawingViewController {
+
+  private static final String IMAGE_FORMAT = "png";
+
+  private final BufferedImage trails;
+  private final Graphics2D graphics;
+
+  /**
+   * makes an empty picture with the size and colors given in the headless preferences
+   */
+  public RasterViewController() {
+    trails = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+    graphics = trails.createGraphics();
+    graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+  }
+
+  /**
+   * gives the picture drawn so far, with the pen trails on top of the background color
+   *
+   * @return a new image the size of the picture
+   */
+  public BufferedImage getImage() {
+    BufferedImage image = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D composite = image.createGraphics();
+    composite.setColor(getBackgroundColor());
+    composite.fillRect(0, 0, image.getWidth(), image.getHeight());
+    composite.drawImage(trails, 0, 0, null);
+    composite.dispose();
+    return image;
+  }
+
+  /**
+   * writes the picture drawn so far to a PNG file
+   *
+   * @param file where to write the picture
+   */
+  public void writeImage(Path file) {
+    try {
+      ImageIO.write(getImage(), IMAGE_FORMAT, file.toFile());
+    } catch (IOException e) {
+      throw new ErrorHandler(e);
+    }
+  }
+
+  @Override
+  protected void drawLine(double startX, double startY, double endX, double endY, Color penColor,
+      double thickness) {
+    graphics.setColor(penColor);
+    graphics.setStroke(new BasicStroke((float) thickness, BasicStroke.CAP_ROUND,
+        BasicStroke.JOIN_ROUND));
+    graphics.draw(new Line2D.Double(startX, startY, endX, endY));
+  }
+
+  @Override
+  protected void clearLines() {
+    graphics.setComposite(AlphaComposite.Clear);
+    graphics.fillRect(0, 0, getWidth(), getHeight());
+    graphics.setComposite(AlphaComposite.SrcOver);
+  }
+}
@@ -0,0 +1,174 @@
+package slogo.headless;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import slogo.ErrorHandler;
+
+/**
+ * A front end without a window that writes the pen trails the model sends to an SVG file while the
+ * program runs. Lines drawn one after another with the same pen go in the same path, and a line
+ * that carries on in the same direction as the one before it only moves that line's end point, so
+ * a long straight stroke made of many small steps is saved as one segment. Only the point of the
+ * last segment is held back, in case the next line continues it, so the picture is never kept in
+ * memory however big it gets. The file is finished when the controller is closed
+ *
+ * @author Ji Yun Hyo
+ */
+public class SvgViewController extends DrawingViewController implements Closeable {
+
+  private static final String HEADER =
+      "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" "
+          + "viewBox=\"0 0 %d %d\">%n";
+  private static final String BACKGROUND = "<rect class=\"background\" width=\"100%\" "
+      + "height=\"100%\"/>\n";
+  private static final String PATH_START = "<path fill=\"none\" stroke=\"#%06x\" "
+      + "stroke-width=\"%s\" stroke-linecap=\"round\" stroke-linejoin=\"round\" d=\"";
+  private static final String PATH_END = "\"/>\n";
+  private static final String FOOTER = "<style>.background{fill:#%06x}</style>%n</svg>%n";
+  private static final double COLLINEAR_TOLERANCE = 1e-9;
+  private static final double COORDINATE_SCALE = 100;
+
+  private final Writer writer;
+  private boolean pathOpen;
+  private Color pathColor;
+  private double pathThickness;
+  private boolean segmentPending;
+  private double segmentStartX;
+  private double segmentStartY;
+  private double endX;
+  private double endY;
+
+  /**
+   * starts writing the picture to a file, replacing the file if it is already there
+   *
+   * @param file where to write the picture
+   */
+  public SvgViewController(Path file) {
+    try {
+      writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+      writer.write(String.format(HEADER, getWidth(), getHeight(), getWidth(), getHeight()));
+      writer.write(BACKGROUND);
+    } catch (IOException e) {
+      throw new ErrorHandler(e);
+    }
+  }
+
+  /**
+   * writes the end of the picture and closes the file. the background is written last, as a style
+   * every background rectangle uses, so it has the color the program left it with
+   */
+  @Override
+  public void close() {
+    try {
+      closePath();
+      writer.write(String.format(FOOTER, getBackgroundColor().getRGB() & 0xffffff));
+      writer.close();
+    } catch (IOException e) {
+      throw new ErrorHandler(e);
+    }
+  }
+
+  @Override
+  protected void drawLine(double startX, double startY, double endX, double endY, Color penColor,
+      double thickness) {
+    if (startX == endX && startY == endY) { return; }
+    try {
+      if (!pathOpen || !penColor.equals(pathColor) || thickness != pathThickness) {
+        closePath();
+        openPath(penColor, thickness);
+        moveTo(startX, startY);
+      } else if (startX != this.endX || startY != this.endY) {
+        writePendingSegment();
+        moveTo(startX, startY);
+      }
+      lineTo(endX, endY);
+    } catch (IOException e) {
+      throw new ErrorHandler(e);
+    }
+  }
+
+  // a clear screen can't take back what is already written, so a new background is put on top of
+  // everything drawn before it
+  @Override
+  protected void clearLines() {
+    try {
+      closePath();
+      writer.write(BACKGROUND);
+    } catch (IOException e) {
+      throw new ErrorHandler(e);
+    }
+  }
+
+  private void openPath(Color penColor, double thickness) throws IOException {
+    writer.write(String.format(PATH_START, penColor.getRGB() & 0xffffff, format(thickness)));
+    pathOpen = true;
+    pathColor = penColor;
+    pathThickness = thickness;
+  }
+
+  private void closePath() throws IOException {
+    if (pathOpen) {
+      writePendingSegment();
+      writer.write(PATH_END);
+      pathOpen = false;
+    }
+  }
+
+  private void moveTo(double x, double y) throws IOException {
+    writePoint('M', x, y);
+    endX = x;
+    endY = y;
+  }
+
+  // holds the new segment back instead of writing it, joining it to the held back segment if it
+  // carries on in the same direction
+  private void lineTo(double x, double y) throws IOException {
+    if (!segmentPending || !continuesSegment(x, y)) {
+      writePendingSegment();
+      segmentStartX = endX;
+      segmentStartY = endY;
+      segmentPending = true;
+    }
+    endX = x;
+    endY = y;
+  }
+
+  private boolean continuesSegment(double x, double y) {
+    double firstX = endX - segmentStartX;
+    double firstY = endY - segmentStartY;
+    double secondX = x - endX;
+    double secondY = y - endY;
+    double cross = firstX * secondY - firstY * secondX;
+    double dot = firstX * secondX + firstY * secondY;
+    return dot > 0 && Math.abs(cross) <= COLLINEAR_TOLERANCE * Math.hypot(firstX, firstY)
+        * Math.hypot(secondX, secondY);
+  }
+
+  private void writePendingSegment() throws IOException {
+    if (segmentPending) {
+      writePoint('L', endX, endY);
+      segmentPending = false;
+    }
+  }
+
+  private void writePoint(char command, double x, double y) throws IOException {
+    writer.write(command);
+    writer.write(format(x));
+    writer.write(' ');
+    writer.write(format(y));
+  }
+
+  // rounds to hundredths of a pixel and leaves off a trailing .0
+  private String format(double value) {
+    double rounded = Math.round(value * COORDINATE_SCALE) / COORDINATE_SCALE;
+    if (rounded == Math.rint(rounded)) {
+      return Long.toString((long) rounded);
+    }
+    return Double.toString(rounded);
+  }
+}
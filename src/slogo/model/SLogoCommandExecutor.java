@@ -2,12 +2,13 @@ package slogo.model;
 
 
 import java.util.Map;
+import slogo.ErrorHandler;
 import slogo.controller.BackEndExternalAPI;
 import slogo.model.commands.BasicCommandClassLoader;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
 import slogo.model.execution.CommandInformationBundle;
 import slogo.model.execution.UserDefinedInformation;
-import slogo.model.parse.CommandParser;
+import slogo.model.parse.ParseCache;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -23,11 +24,14 @@ public class SLogoCommandExecutor implements CommandExecutor {
   public static final String COMMAND_PACKAGE = "slogo.model.resources.commands.";
   public static final String REGEX_SYNTAX = "Syntax";
   public static final String COMMAND_PARAMS = "CommandsParam";
+  public static final String EXECUTION_LIMITS = "ExecutionLimits";
+  public static final String PER_TURTLE_COMMANDS = "PerTurtleCommands";
 
   private final BackEndExternalAPI MODEL_CONTROLLER;
   private final CommandInformationBundle BUNDLE;
   private final BasicCommandClassLoader COMMAND_LOADER = new BasicCommandClassLoader();
   private final UserDefinedInformation USER_INFORMATION;
+  private final ParseCache PARSE_CACHE = new ParseCache();
 
   /**
    * This is the command executor that executes commands for SLogo. The basic constructor takes the
@@ -74,17 +78,31 @@ public class SLogoCommandExecutor implements CommandExecutor {
   }
 
   /**
-   * Executes a command, resulting in calls to the model controller
+   * Executes a command, resulting in calls to the model controller. Commands that are the same as
+   * the last input reuse the trees they were parsed into
    *
    * @param input    The command in raw string form
    * @param language The language of the command
    */
   public void executeCommand(String input, String language) {
-    CommandParser commandParser = new CommandParser(input, language, MODEL_CONTROLLER);
-    TreeNode inputRoot = commandParser.makeTree();
-    for (TreeNode child : inputRoot.getChildren()) {
-      COMMAND_LOADER.makeCommand(BUNDLE, child).execute();
+    TreeNode inputRoot = PARSE_CACHE.parse(input, language, MODEL_CONTROLLER);
+    try {
+      for (TreeNode child : inputRoot.getChildren()) {
+        COMMAND_LOADER.makeCommand(BUNDLE, child).execute();
+      }
+    } catch (StackOverflowError e) {
+      resetScopes();
+      throw new ErrorHandler("RecursionTooDeep");
+    } catch (RuntimeException e) {
+      resetScopes();
+      throw e;
     }
+  }
 
+  // Clears the parameter frames and active turtle layers left behind by commands that stopped
+  // because of an error
+  private void resetScopes() {
+    USER_INFORMATION.resetScopes();
+    BUNDLE.getTurtleInformation().resetActiveTurtleLayers();
   }
 }
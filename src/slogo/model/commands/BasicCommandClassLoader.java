@@ -1,31 +1,59 @@
 package slogo.model.commands;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
 import slogo.ErrorHandler;
+import slogo.model.SLogoCommandExecutor;
 import slogo.model.commands.basic_commands.BasicCommand;
+import slogo.model.commands.basic_commands.Constant;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
-import slogo.model.commands.basic_commands.command_types.Command;
+import slogo.model.commands.basic_commands.UserDefinedCommandCall;
+import slogo.model.commands.basic_commands.Variable;
 import slogo.model.execution.CommandInformationBundle;
 import slogo.model.execution.UserDefinedInformation;
+import slogo.model.parse.Parser;
 import slogo.model.tree.TreeNode;
 
 /**
- * This class is used to create instances of command objects at runtime
+ * This class is used to create instances of command objects at runtime. A TreeNode is compiled
+ * into a BasicCommand once, and the resulting command can then be executed as many times as needed
  *
  * @author Casey Szilagyi
  */
 public class BasicCommandClassLoader {
 
-  private final ClassLoader CLASS_LOADER;
-  private final String COMMAND_CLASSES_PACKAGE = BasicCommand.class.getPackageName();
-
-  /**
-   * Instantiates the ClassLoader
-   */
-  public BasicCommandClassLoader() {
-    CLASS_LOADER = new ClassLoader() {
-    };
+  private static final String COMMAND_CLASSES_PACKAGE = BasicCommand.class.getPackageName();
+  private static final MethodType COMMAND_CONSTRUCTOR = MethodType
+      .methodType(BasicCommand.class, CommandInformationBundle.class, List.class);
+  private static final Map<String, MethodHandle> COMMAND_CONSTRUCTORS = makeCommandConstructors();
+
+  // Looks up the constructor of every command listed in the command parameter file once, so
+  // making a command is just a map lookup. Commands without an implementation are left out and
+  // are reported as invalid when used
+  private static Map<String, MethodHandle> makeCommandConstructors() {
+    Map<String, MethodHandle> constructors = new HashMap<>();
+    ResourceBundle resources = ResourceBundle
+        .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.COMMAND_PARAMS);
+    List<String> commandNames = Collections.list(resources.getKeys());
+    commandNames.add(Parser.COMMAND_BLOCK_CLASS);
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    for (String commandName : commandNames) {
+      try {
+        Class<?> commandClass = Class.forName(COMMAND_CLASSES_PACKAGE + "." + commandName);
+        MethodHandle constructor = lookup.findConstructor(commandClass,
+            MethodType.methodType(void.class, CommandInformationBundle.class, List.class));
+        constructors.put(commandName, constructor.asType(COMMAND_CONSTRUCTOR));
+      } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+        // not every command in the file has been implemented
+      }
+    }
+    return Collections.unmodifiableMap(constructors);
   }
 
 
@@ -43,13 +71,21 @@ public class BasicCommandClassLoader {
       return myCommand;
     }
 
+    // A block with one command does the same thing as the command, so skip the extra call
+    if (isSingleCommandBlock(node)) {
+      return makeCommand(informationBundle, node.getChildren().get(0));
+    }
+
+    MethodHandle constructor = COMMAND_CONSTRUCTORS.get(node.getCommand());
+    if (constructor == null) {
+      throw new ErrorHandler("InvalidCommandName");
+    }
     try {
-      Object command = CLASS_LOADER.loadClass(COMMAND_CLASSES_PACKAGE + "." + node.getCommand())
-          .getDeclaredConstructor(CommandInformationBundle.class, List.class)
-          .newInstance(informationBundle, (Object) node.getChildren());
-      myCommand = (BasicCommand) command;
-    } catch (InstantiationException | InvocationTargetException | NoSuchMethodException | IllegalAccessException | ClassNotFoundException e) {
-      throw new ErrorHandler ("InvalidCommandName");
+      myCommand = (BasicCommand) constructor.invokeExact(informationBundle, node.getChildren());
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ErrorHandler("InvalidCommandName");
     }
 
     return myCommand;
@@ -63,61 +99,36 @@ public class BasicCommandClassLoader {
     UserDefinedInformation userInfo = informationBundle.getUserDefinedInformation();
 
     if (isConstant(nodeName)) {
-      return makeConstant(Double.parseDouble(nodeName));
+      return new Constant(Double.parseDouble(nodeName));
     }
 
     if (isUserDefinedCommand(nodeName, userInfo)) {
-      return getUserDefinedCommand(userInfo, node);
+      return getUserDefinedCommand(informationBundle, node);
     }
 
     if (isVariableOrParameter(node)) {
-      try{
-        return getVariableOrParameter(userInfo, nodeName);
-      }
-      catch (Exception e){
-        throw new ErrorHandler(e);
-      }
+      return new Variable(userInfo, nodeName);
     }
     return null;
   }
 
-  // gets the variable or parameter value corresponding to the node. Throws an error
-  // if it is does not exist
-  private BasicCommand getVariableOrParameter(UserDefinedInformation userInfo, String nodeName) throws ErrorHandler {
-
-    if(userInfo.hasParameter(nodeName)){
-      return makeConstant(userInfo.getParameter(nodeName));
-    }
-
-    if (userInfo.hasVariable(nodeName)) {
-      return makeConstant(userInfo.getVariable(nodeName));
-    }
-    throw new ErrorHandler("InvalidVariableName");
-  }
-
-  // Gets the user defined BasicCommand from the information bundle. Only called if the bundle
-  // actually has the command
-  private BasicCommand getUserDefinedCommand(UserDefinedInformation userInfo,
+  // Makes a call to a user defined command. Only called if the bundle actually has the command,
+  // the command itself is looked up again every time the call is executed
+  private BasicCommand getUserDefinedCommand(CommandInformationBundle informationBundle,
       TreeNode node) {
-    UserDefinedCommand command = userInfo.getCommand(node.getCommand());
-    command.passParams(node.getChildren());
-    return command;
+    UserDefinedCommand command = informationBundle.getUserDefinedInformation()
+        .getCommand(node.getCommand());
+    UserDefinedCommand tailCaller = command.isTailCall(node) ? command : null;
+    return new UserDefinedCommandCall(informationBundle, node.getCommand(), node.getChildren(),
+        tailCaller);
   }
 
-  // Makes a constant BasicCommand
-  private BasicCommand makeConstant(double number) {
-    BasicCommand myCommand = null;
-    try {
-      Object command = CLASS_LOADER.loadClass(COMMAND_CLASSES_PACKAGE + "." + "Constant")
-          .getDeclaredConstructor(double.class).newInstance(number);
-      myCommand = (BasicCommand) command;
-    } catch (Exception e) {
-    }
-
-    return myCommand;
+  // Checks if the node is a command block holding exactly one command
+  private boolean isSingleCommandBlock(TreeNode node) {
+    return Parser.COMMAND_BLOCK_CLASS.equals(node.getCommand()) && node.getChildren() != null
+        && node.getChildren().size() == 1;
   }
 
-
   // Checks if the node has the format of a user defined variable or  parameter
   private boolean isVariableOrParameter(TreeNode node){
     return (node.getValue().charAt(0) - ':' == 0);
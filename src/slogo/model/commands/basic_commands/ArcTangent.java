@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class ArcTangent extends MathAndLogicCommand {
 
-  private final double RATIO;
+  private final BasicCommand RATIO;
 
   /**
    * Makes an instance of the ArcTangent command
@@ -22,7 +22,7 @@ public class ArcTangent extends MathAndLogicCommand {
    */
   public ArcTangent(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    RATIO = loadClass(bundle, children.get(0)).execute();
+    RATIO = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class ArcTangent extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.toDegrees(Math.atan(RATIO));
+    return Math.toDegrees(Math.atan(RATIO.execute()));
   }
 }
@@ -13,8 +13,9 @@ import slogo.model.tree.TreeNode;
  */
 public class Ask extends MultipleTurtleCommand {
 
-  private final List<Integer> IDS = new ArrayList<>();
-  private final TreeNode COMMANDS;
+  private final List<BasicCommand> IDS = new ArrayList<>();
+  private final TreeNode COMMAND_NODE;
+  private final BasicCommand COMMANDS;
 
   /**
    * Gets the commands and turtles to act on
@@ -26,9 +27,10 @@ public class Ask extends MultipleTurtleCommand {
     super(informationBundle);
     TreeNode IDBlock = children.get(0);
     for(TreeNode child: IDBlock.getChildren()){
-      IDS.add((int) loadClass(informationBundle, child).execute());
+      IDS.add(loadClass(informationBundle, child));
     }
-    COMMANDS = children.get(1);
+    COMMAND_NODE = children.get(1);
+    COMMANDS = loadClass(informationBundle, COMMAND_NODE);
   }
 
   /**
@@ -39,8 +41,8 @@ public class Ask extends MultipleTurtleCommand {
    */
   @Override
   public double execute(){
-    addActiveTurtleLayer(IDS);
-    double result = executeNode(COMMANDS);
+    addActiveTurtleLayer(evaluateIDs(IDS));
+    double result = executeOnActiveTurtles(COMMAND_NODE, COMMANDS);
     removeActiveTurtleLayer();
     return result;
   }
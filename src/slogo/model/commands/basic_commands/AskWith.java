@@ -1,6 +1,5 @@
 package slogo.model.commands.basic_commands;
 
-import java.util.ArrayList;
 import java.util.List;
 import slogo.model.commands.basic_commands.command_types.MultipleTurtleCommand;
 import slogo.model.execution.CommandInformationBundle;
@@ -14,9 +13,10 @@ import slogo.model.tree.TreeNode;
  */
 public class AskWith extends MultipleTurtleCommand {
 
-  private final List<Integer> IDS = new ArrayList<>();
-  private final TreeNode CONDITION;
-  private final TreeNode COMMANDS;
+  private final TreeNode CONDITION_NODE;
+  private final BasicCommand CONDITION;
+  private final TreeNode COMMAND_NODE;
+  private final BasicCommand COMMANDS;
 
   /**
    * Gets the commands and turtles to act on
@@ -26,8 +26,10 @@ public class AskWith extends MultipleTurtleCommand {
    */
   public AskWith(CommandInformationBundle informationBundle, List<TreeNode> children){
     super(informationBundle);
-    CONDITION = children.get(0);
-    COMMANDS = children.get(1);
+    CONDITION_NODE = children.get(0);
+    CONDITION = loadClass(informationBundle, CONDITION_NODE);
+    COMMAND_NODE = children.get(1);
+    COMMANDS = loadClass(informationBundle, COMMAND_NODE);
   }
 
   /**
@@ -37,8 +39,8 @@ public class AskWith extends MultipleTurtleCommand {
    */
   @Override
   public double execute(){
-    determineActiveTurtles(CONDITION);
-    double result = executeNode(COMMANDS);
+    determineActiveTurtles(CONDITION_NODE, CONDITION);
+    double result = executeOnActiveTurtles(COMMAND_NODE, COMMANDS);
     removeActiveTurtleLayer();
     return result;
   }
@@ -2,8 +2,10 @@ package slogo.model.commands.basic_commands;
 
 import com.sun.source.tree.Tree;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -13,7 +15,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Backward extends TurtleAlteringCommand {
 
-  private final TreeNode DISTANCE;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand DISTANCE;
 
   /**
    * Makes an instance of the backward command
@@ -23,7 +26,12 @@ public class Backward extends TurtleAlteringCommand {
    */
   public Backward(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    DISTANCE = nodes.get(0);
+    DISTANCE = loadClass(bundle, nodes.get(0));
+    TURTLE_ACTION = turtle -> {
+      double distance = DISTANCE.execute();
+      return changeTurtlePosition(-1 * distance * Math.cos(getAngle() / 360 * Math.PI * 2),
+          -1 * distance * Math.sin(getAngle() / 360 * Math.PI * 2));
+    };
   }
 
   /**
@@ -33,10 +41,12 @@ public class Backward extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      return changeTurtlePosition(-1 * executeNode(DISTANCE) * Math.cos(getAngle() / 360 * Math.PI * 2),
-          -1 * executeNode(DISTANCE) * Math.sin(getAngle() / 360 * Math.PI * 2));
-    });
+    if (!DISTANCE.isTurtleInvariant()) {
+      return updateTurtle(TURTLE_ACTION);
+    }
+    double distance = -1 * DISTANCE.execute();
+    return updateTurtles((store, IDs) -> store.moveForward(IDs, distance),
+        Turtle::tellFrontEndPosition, turtle -> distanceMoved(turtle, distance));
   }
 
 }
@@ -17,5 +17,15 @@ public interface BasicCommand {
    */
   public double execute();
 
+  /**
+   * Tells whether this command gives the same value no matter which turtle is active and how many
+   * times it is executed, and changes nothing when it is. A command like this only has to be
+   * executed once for all of the active turtles
+   *
+   * @return True if the value does not depend on the turtles, false if it might
+   */
+  public default boolean isTurtleInvariant() {
+    return false;
+  }
 
 }
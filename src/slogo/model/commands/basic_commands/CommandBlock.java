@@ -14,18 +14,21 @@ import slogo.model.tree.TreeNode;
  */
 public class CommandBlock extends ControlStructureCommand {
 
-  private final List<TreeNode> CHILDREN;
+  private final List<BasicCommand> CHILDREN = new ArrayList<>();
 
 
   /**
-   * Makes an instance of the CommandBlock command
+   * Makes an instance of the CommandBlock command. Every child is compiled once here, so the block
+   * can be executed repeatedly by loops without rebuilding its commands
    *
    * @param informationBundle The information that could be needed to execute a command
    * @param nodes             All of the children to be executed
    */
   public CommandBlock(CommandInformationBundle informationBundle, List<TreeNode> nodes) {
     super(informationBundle);
-    CHILDREN = nodes;
+    for (TreeNode node : nodes) {
+      CHILDREN.add(loadClass(informationBundle, node));
+    }
   }
 
   /**
@@ -38,7 +41,7 @@ public class CommandBlock extends ControlStructureCommand {
   public double execute() {
     double val = 0;
     for (int i = 0; i < CHILDREN.size(); i++) {
-      val = executeNode(CHILDREN.get(i));
+      val = CHILDREN.get(i).execute();
     }
     return val;
   }
@@ -29,4 +29,13 @@ public class Constant implements BasicCommand {
     return CONSTANT;
   }
 
+  /**
+   * A constant is always the same
+   *
+   * @return True
+   */
+  @Override
+  public boolean isTurtleInvariant() {
+    return true;
+  }
 }
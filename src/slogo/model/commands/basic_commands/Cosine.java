@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Cosine extends MathAndLogicCommand {
 
-  private final double ANGLE;
+  private final BasicCommand ANGLE;
 
   /**
    * Makes an instance of the cosine
@@ -22,7 +22,7 @@ public class Cosine extends MathAndLogicCommand {
    */
   public Cosine(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    ANGLE = loadClass(bundle, children.get(0)).execute();
+    ANGLE = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class Cosine extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.cos(Math.toRadians(ANGLE));
+    return Math.cos(Math.toRadians(ANGLE.execute()));
   }
 }
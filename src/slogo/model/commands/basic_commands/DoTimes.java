@@ -13,9 +13,9 @@ import slogo.model.tree.TreeNode;
  */
 public class DoTimes extends ControlStructureCommand {
 
-  private final String VARIABLE;
-  private final double LIMIT;
-  private final TreeNode COMMAND_BLOCK;
+  private final int VARIABLE;
+  private final BasicCommand LIMIT;
+  private final BasicCommand COMMAND_BLOCK;
 
   /**
    * Makes an instance of the DoTimes loop
@@ -27,10 +27,9 @@ public class DoTimes extends ControlStructureCommand {
    */
   public DoTimes(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    VARIABLE = children.get(0).getChildren().get(0).getValue();
-    System.out.println(children.get(0).getChildren().size());
-    LIMIT = executeNode(children.get(0).getChildren().get(1));
-    COMMAND_BLOCK = children.get(1);
+    VARIABLE = getSlot(children.get(0).getChildren().get(0).getValue());
+    LIMIT = loadClass(bundle, children.get(0).getChildren().get(1));
+    COMMAND_BLOCK = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -42,11 +41,12 @@ public class DoTimes extends ControlStructureCommand {
   @Override
   public double execute() {
     double val = 0;
+    double limit = LIMIT.execute();
     addParameterMap();
     addTurtleLayer();
-    for (double i = 1; i <= LIMIT; i += 1) {
+    for (double i = 1; i <= limit; i += 1) {
       setParameter(VARIABLE, i);
-      val = executeNode(COMMAND_BLOCK);
+      val = COMMAND_BLOCK.execute();
     }
     removeParameterMap();
     removeTurtleLayer();
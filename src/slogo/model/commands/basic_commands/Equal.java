@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Equal extends MathAndLogicCommand {
 
-  private final double EXPRESSION_1;
-  private final double EXPRESSION_2;
+  private final BasicCommand EXPRESSION_1;
+  private final BasicCommand EXPRESSION_2;
   private final double TOLERANCE = 0.05;
 
   /**
@@ -24,8 +24,8 @@ public class Equal extends MathAndLogicCommand {
    */
   public Equal(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    EXPRESSION_1 = loadClass(bundle, nodes.get(0)).execute();
-    EXPRESSION_2 = loadClass(bundle, nodes.get(1)).execute();
+    EXPRESSION_1 = loadClass(bundle, nodes.get(0));
+    EXPRESSION_2 = loadClass(bundle, nodes.get(1));
   }
 
   /**
@@ -35,7 +35,9 @@ public class Equal extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    if (Math.abs(EXPRESSION_1-EXPRESSION_2) < TOLERANCE) {
+    double expression1 = EXPRESSION_1.execute();
+    double expression2 = EXPRESSION_2.execute();
+    if (Math.abs(expression1-expression2) < TOLERANCE) {
       return 1;
     }
     return 0;
@@ -13,11 +13,11 @@ import slogo.model.tree.TreeNode;
  */
 public class For extends ControlStructureCommand {
 
-  private final String VARIABLE;
-  private final double START;
-  private final double END;
-  private final double INCREMENT;
-  private final TreeNode COMMAND_BLOCK;
+  private final int VARIABLE;
+  private final BasicCommand START;
+  private final BasicCommand END;
+  private final BasicCommand INCREMENT;
+  private final BasicCommand COMMAND_BLOCK;
 
   /**
    * Makes an instance of the For loop
@@ -29,11 +29,11 @@ public class For extends ControlStructureCommand {
    */
   public For(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    VARIABLE = children.get(0).getChildren().get(0).getValue();
-    START = executeNode(children.get(0).getChildren().get(1));
-    END = executeNode(children.get(0).getChildren().get(2));
-    INCREMENT = executeNode(children.get(0).getChildren().get(3));
-    COMMAND_BLOCK = children.get(1);
+    VARIABLE = getSlot(children.get(0).getChildren().get(0).getValue());
+    START = loadClass(bundle, children.get(0).getChildren().get(1));
+    END = loadClass(bundle, children.get(0).getChildren().get(2));
+    INCREMENT = loadClass(bundle, children.get(0).getChildren().get(3));
+    COMMAND_BLOCK = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -45,11 +45,14 @@ public class For extends ControlStructureCommand {
   @Override
   public double execute() {
     double val = 0;
+    double start = START.execute();
+    double end = END.execute();
+    double increment = INCREMENT.execute();
     addParameterMap();
     addTurtleLayer();
-    for (double i = START; i <= END; i += INCREMENT) {
+    for (double i = start; i <= end; i += increment) {
       setParameter(VARIABLE, i);
-      val = executeNode(COMMAND_BLOCK);
+      val = COMMAND_BLOCK.execute();
     }
     removeParameterMap();
     removeTurtleLayer();
@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,7 +14,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Forward extends TurtleAlteringCommand {
 
-  private final TreeNode DISTANCE;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand DISTANCE;
 
   /**
    * Makes an instance of the forward command
@@ -22,7 +25,13 @@ public class Forward extends TurtleAlteringCommand {
    */
   public Forward(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    DISTANCE = nodes.get(0);
+    DISTANCE = loadClass(bundle, nodes.get(0));
+    TURTLE_ACTION = turtle -> {
+      double distance = DISTANCE.execute();
+      double xChange = Math.cos(getAngle() / 360 * Math.PI * 2);
+      double yChange = Math.sin(getAngle() / 360 * Math.PI * 2);
+      return changeTurtlePosition(distance * xChange, distance * yChange);
+    };
   }
 
   /**
@@ -32,11 +41,11 @@ public class Forward extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      double xChange = Math.cos(getAngle() / 360 * Math.PI * 2);
-      double yChange = Math.sin(getAngle() / 360 * Math.PI * 2);
-      return changeTurtlePosition(executeNode(DISTANCE) * xChange,
-      executeNode(DISTANCE) * yChange);
-    });
+    if (!DISTANCE.isTurtleInvariant()) {
+      return updateTurtle(TURTLE_ACTION);
+    }
+    double distance = DISTANCE.execute();
+    return updateTurtles((store, IDs) -> store.moveForward(IDs, distance),
+        Turtle::tellFrontEndPosition, turtle -> distanceMoved(turtle, distance));
   }
 }
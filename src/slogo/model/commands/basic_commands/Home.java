@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,6 +14,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Home extends TurtleAlteringCommand {
 
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+
   /**
    * Makes an instance of the Home command
    *
@@ -20,6 +24,10 @@ public class Home extends TurtleAlteringCommand {
    */
   public Home(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
+    TURTLE_ACTION = turtle -> {
+      setAngle(90);
+      return setTurtlePosition(0,0);
+    };
   }
 
   /**
@@ -29,9 +37,6 @@ public class Home extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      setAngle(90);
-      return setTurtlePosition(0,0);
-    });
+    return updateTurtle(TURTLE_ACTION);
   }
 }
@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class If extends ControlStructureCommand {
 
-  private final double CONDITIONAL;
-  private final TreeNode COMMAND_BLOCK;
+  private final BasicCommand CONDITIONAL;
+  private final BasicCommand COMMAND_BLOCK;
 
   /**
    * Makes an instance of the if command
@@ -23,8 +23,8 @@ public class If extends ControlStructureCommand {
    */
   public If(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    CONDITIONAL = loadClass(bundle, children.get(0)).execute();
-    COMMAND_BLOCK = children.get(1);
+    CONDITIONAL = loadClass(bundle, children.get(0));
+    COMMAND_BLOCK = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -35,9 +35,9 @@ public class If extends ControlStructureCommand {
   @Override
   public double execute() {
     double val = 0;
-    if (CONDITIONAL != 0) {
+    if (CONDITIONAL.execute() != 0) {
       addTurtleLayer();
-      val = executeNode(COMMAND_BLOCK);
+      val = COMMAND_BLOCK.execute();
       removeTurtleLayer();
     }
     return val;
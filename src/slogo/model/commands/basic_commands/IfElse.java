@@ -12,9 +12,9 @@ import slogo.model.tree.TreeNode;
  */
 public class IfElse extends ControlStructureCommand {
 
-  private final double CONDITIONAL;
-  private final TreeNode IF_BLOCK;
-  private final TreeNode ELSE_BLOCK;
+  private final BasicCommand CONDITIONAL;
+  private final BasicCommand IF_BLOCK;
+  private final BasicCommand ELSE_BLOCK;
 
   /**
    * Makes an instance of the IfElse command
@@ -24,9 +24,9 @@ public class IfElse extends ControlStructureCommand {
    */
   public IfElse(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    CONDITIONAL = loadClass(bundle, children.get(0)).execute();
-    IF_BLOCK = children.get(1);
-    ELSE_BLOCK = children.get(2);
+    CONDITIONAL = loadClass(bundle, children.get(0));
+    IF_BLOCK = loadClass(bundle, children.get(1));
+    ELSE_BLOCK = loadClass(bundle, children.get(2));
   }
 
   /**
@@ -37,11 +37,12 @@ public class IfElse extends ControlStructureCommand {
   @Override
   public double execute() {
     double val = 0;
+    double conditional = CONDITIONAL.execute();
     addTurtleLayer();
-    if (CONDITIONAL != 0) {
-      val = executeNode(IF_BLOCK);
+    if (conditional != 0) {
+      val = IF_BLOCK.execute();
     } else {
-      val = executeNode(ELSE_BLOCK);
+      val = ELSE_BLOCK.execute();
     }
     removeTurtleLayer();
     return val;
@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class MakeVariable extends ControlStructureCommand {
 
-  private final String NAME;
-  private final double VALUE;
+  private final int SLOT;
+  private final BasicCommand VALUE;
 
   /**
    * Makes an instance of the MakeVariable command
@@ -24,8 +24,8 @@ public class MakeVariable extends ControlStructureCommand {
    */
   public MakeVariable(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    NAME = nodes.get(0).getValue();
-    VALUE = loadClass(bundle, nodes.get(1)).execute();
+    SLOT = getSlot(nodes.get(0).getValue());
+    VALUE = loadClass(bundle, nodes.get(1));
   }
 
   /**
@@ -36,7 +36,8 @@ public class MakeVariable extends ControlStructureCommand {
    */
   @Override
   public double execute() {
-    setVariable(NAME, VALUE);
-    return VALUE;
+    double value = VALUE.execute();
+    setVariable(SLOT, value);
+    return value;
   }
 }
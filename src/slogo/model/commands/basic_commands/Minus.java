@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Minus extends MathAndLogicCommand {
 
-  private final double VALUE;
+  private final BasicCommand VALUE;
 
   /**
    * Makes an instance of the minus command
@@ -22,7 +22,7 @@ public class Minus extends MathAndLogicCommand {
    */
   public Minus(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    VALUE = loadClass(bundle, children.get(0)).execute();
+    VALUE = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class Minus extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return VALUE * -1;
+    return VALUE.execute() * -1;
   }
 }
@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class NaturalLog extends MathAndLogicCommand {
 
-  private final double VALUE;
+  private final BasicCommand VALUE;
 
   /**
    * Makes an instance of the NaturalLog command
@@ -22,7 +22,7 @@ public class NaturalLog extends MathAndLogicCommand {
    */
   public NaturalLog(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    VALUE = loadClass(bundle, children.get(0)).execute();
+    VALUE = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class NaturalLog extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.log(VALUE);
+    return Math.log(VALUE.execute());
   }
 }
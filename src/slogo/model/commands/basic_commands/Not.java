@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Not extends MathAndLogicCommand {
 
-  private final double VALUE;
+  private final BasicCommand VALUE;
 
   /**
    * Makes an instance of the not command
@@ -22,7 +22,7 @@ public class Not extends MathAndLogicCommand {
    */
   public Not(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    VALUE = loadClass(bundle, nodes.get(0)).execute();
+    VALUE = loadClass(bundle, nodes.get(0));
   }
 
   /**
@@ -32,7 +32,7 @@ public class Not extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    if (VALUE == 0) {
+    if (VALUE.execute() == 0) {
       return 1;
     }
     return 0;
@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class NotEqual extends MathAndLogicCommand {
 
-  private final double EXPRESSION_1;
-  private final double EXPRESSION_2;
+  private final BasicCommand EXPRESSION_1;
+  private final BasicCommand EXPRESSION_2;
 
   /**
    * Makes an instance of the not equal command
@@ -23,8 +23,8 @@ public class NotEqual extends MathAndLogicCommand {
    */
   public NotEqual(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    EXPRESSION_1 = loadClass(bundle, nodes.get(0)).execute();
-    EXPRESSION_2 = loadClass(bundle, nodes.get(1)).execute();
+    EXPRESSION_1 = loadClass(bundle, nodes.get(0));
+    EXPRESSION_2 = loadClass(bundle, nodes.get(1));
   }
 
   /**
@@ -34,7 +34,9 @@ public class NotEqual extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    if (EXPRESSION_1 != EXPRESSION_2) {
+    double expression1 = EXPRESSION_1.execute();
+    double expression2 = EXPRESSION_2.execute();
+    if (expression1 != expression2) {
       return 1;
     }
     return 0;
@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Or extends MathAndLogicCommand {
 
-  private final double EXPRESSION_1;
-  private final double EXPRESSION_2;
+  private final BasicCommand EXPRESSION_1;
+  private final BasicCommand EXPRESSION_2;
 
   /**
    * Makes an instance of the or command
@@ -23,8 +23,8 @@ public class Or extends MathAndLogicCommand {
    */
   public Or(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    EXPRESSION_1 = loadClass(bundle, nodes.get(0)).execute();
-    EXPRESSION_2 = loadClass(bundle, nodes.get(1)).execute();
+    EXPRESSION_1 = loadClass(bundle, nodes.get(0));
+    EXPRESSION_2 = loadClass(bundle, nodes.get(1));
   }
 
   /**
@@ -34,7 +34,9 @@ public class Or extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    if (EXPRESSION_1 != 0 || EXPRESSION_2 != 0) {
+    double expression1 = EXPRESSION_1.execute();
+    double expression2 = EXPRESSION_2.execute();
+    if (expression1 != 0 || expression2 != 0) {
       return 1;
     }
     return 0;
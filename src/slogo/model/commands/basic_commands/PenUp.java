@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,6 +14,8 @@ import slogo.model.tree.TreeNode;
  */
 public class PenUp extends TurtleAlteringCommand {
 
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+
   /**
    * Makes an instance of the pen up command
    *
@@ -20,6 +24,9 @@ public class PenUp extends TurtleAlteringCommand {
    */
   public PenUp(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
+    TURTLE_ACTION = turtle -> {
+      return changePenState(0);
+    };
   }
 
   /**
@@ -29,8 +36,6 @@ public class PenUp extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      return changePenState(0);
-    });
+    return updateTurtle(TURTLE_ACTION);
   }
 }
@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Power extends MathAndLogicCommand {
 
-  private final double BASE;
-  private final double EXPONENT;
+  private final BasicCommand BASE;
+  private final BasicCommand EXPONENT;
 
   /**
    * Makes an instance of the power command
@@ -23,8 +23,8 @@ public class Power extends MathAndLogicCommand {
    */
   public Power(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    BASE = loadClass(bundle, children.get(0)).execute();
-    EXPONENT = loadClass(bundle, children.get(1)).execute();
+    BASE = loadClass(bundle, children.get(0));
+    EXPONENT = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -34,6 +34,8 @@ public class Power extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.pow(BASE, EXPONENT);
+    double base = BASE.execute();
+    double exponent = EXPONENT.execute();
+    return Math.pow(base, exponent);
   }
 }
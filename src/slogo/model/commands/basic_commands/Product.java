@@ -12,8 +12,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Product extends MathAndLogicCommand {
 
-  private final double VALUE_1;
-  private final double VALUE_2;
+  private final BasicCommand VALUE_1;
+  private final BasicCommand VALUE_2;
 
   /**
    * Makes an instance of the product command
@@ -23,8 +23,8 @@ public class Product extends MathAndLogicCommand {
    */
   public Product(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    VALUE_1 = loadClass(bundle, children.get(0)).execute();
-    VALUE_2 = loadClass(bundle, children.get(1)).execute();
+    VALUE_1 = loadClass(bundle, children.get(0));
+    VALUE_2 = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -34,7 +34,9 @@ public class Product extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return VALUE_1 * VALUE_2;
+    double value1 = VALUE_1.execute();
+    double value2 = VALUE_2.execute();
+    return value1 * value2;
   }
 
 }
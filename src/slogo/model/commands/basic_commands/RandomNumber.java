@@ -13,8 +13,8 @@ import slogo.model.tree.TreeNode;
  */
 public class RandomNumber extends MathAndLogicCommand {
 
-  private final double MAX;
-  private final Random RANDOM = new Random();
+  private final BasicCommand MAX;
+  private static final Random RANDOM = new Random();
 
   /**
    * Makes an instance of the random command
@@ -24,7 +24,7 @@ public class RandomNumber extends MathAndLogicCommand {
    */
   public RandomNumber(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    MAX = loadClass(bundle, children.get(0)).execute();
+    MAX = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -34,6 +34,16 @@ public class RandomNumber extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return RANDOM.nextDouble() * MAX;
+    return RANDOM.nextDouble() * MAX.execute();
+  }
+
+  /**
+   * Every execution gives a new random number
+   *
+   * @return False
+   */
+  @Override
+  public boolean isTurtleInvariant() {
+    return false;
   }
 }
@@ -12,8 +12,9 @@ import slogo.model.tree.TreeNode;
  */
 public class Repeat extends ControlStructureCommand {
 
-  private final double LOOP_COUNT;
-  private final TreeNode COMMAND_BLOCK;
+  private final int REPCOUNT;
+  private final BasicCommand LOOP_COUNT;
+  private final BasicCommand COMMAND_BLOCK;
 
   /**
    * Makes an instance of the Repeat loop
@@ -23,8 +24,9 @@ public class Repeat extends ControlStructureCommand {
    */
   public Repeat(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    LOOP_COUNT = loadClass(bundle, children.get(0)).execute();
-    COMMAND_BLOCK = children.get(1);
+    REPCOUNT = getSlot(":repcount");
+    LOOP_COUNT = loadClass(bundle, children.get(0));
+    COMMAND_BLOCK = loadClass(bundle, children.get(1));
   }
 
   /**
@@ -36,11 +38,12 @@ public class Repeat extends ControlStructureCommand {
   @Override
   public double execute() {
     double val = 0;
+    double loopCount = LOOP_COUNT.execute();
     addParameterMap();
     addTurtleLayer();
-    for (double i = 1; i <= LOOP_COUNT; i += 1) {
-      setParameter(":repcount", i);
-      val = executeNode(COMMAND_BLOCK);
+    for (double i = 1; i <= loopCount; i += 1) {
+      setParameter(REPCOUNT, i);
+      val = COMMAND_BLOCK.execute();
     }
     removeParameterMap();
     removeTurtleLayer();
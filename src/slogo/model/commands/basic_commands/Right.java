@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,7 +14,8 @@ import slogo.model.tree.TreeNode;
  */
 public class Right extends TurtleAlteringCommand {
 
-  private final TreeNode ANGLE;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand ANGLE;
 
   /**
    * Makes an instance of the right command
@@ -22,7 +25,10 @@ public class Right extends TurtleAlteringCommand {
    */
   public Right(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    ANGLE = nodes.get(0);
+    ANGLE = loadClass(bundle, nodes.get(0));
+    TURTLE_ACTION = turtle -> {
+      return rotateCounterClockwise(-1 * ANGLE.execute());
+    };
   }
 
   /**
@@ -32,8 +38,11 @@ public class Right extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      return rotateCounterClockwise(-1 * executeNode(ANGLE));
-    });
+    if (!ANGLE.isTurtleInvariant()) {
+      return updateTurtle(TURTLE_ACTION);
+    }
+    double change = -1 * ANGLE.execute();
+    return updateTurtles((store, IDs) -> store.rotateCounterClockwise(IDs, change),
+        Turtle::tellFrontEndAngle, turtle -> Math.abs(change));
   }
 }
@@ -13,7 +13,7 @@ import slogo.model.tree.TreeNode;
  */
 public class SetBackground extends DisplayAlteringCommand {
 
-  private final double INDEX;
+  private final BasicCommand INDEX;
 
   /**
    * Makes an instance of the set background command
@@ -23,7 +23,7 @@ public class SetBackground extends DisplayAlteringCommand {
    */
   public SetBackground(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    INDEX = loadClass(bundle, nodes.get(0)).execute();
+    INDEX = loadClass(bundle, nodes.get(0));
   }
 
   /**
@@ -33,7 +33,8 @@ public class SetBackground extends DisplayAlteringCommand {
    */
   @Override
   public double execute() {
-    setBackgroundColor((int) INDEX);
-    return INDEX;
+    double index = INDEX.execute();
+    setBackgroundColor((int) index);
+    return index;
   }
 }
@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,7 +14,8 @@ import slogo.model.tree.TreeNode;
  */
 public class SetHeading extends TurtleAlteringCommand {
 
-  private final TreeNode ANGLE;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand ANGLE;
 
   /**
    * Makes an instance of the set heading command
@@ -22,7 +25,10 @@ public class SetHeading extends TurtleAlteringCommand {
    */
   public SetHeading(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    ANGLE = nodes.get(0);
+    ANGLE = loadClass(bundle, nodes.get(0));
+    TURTLE_ACTION = turtle -> {
+      return setAngle(ANGLE.execute());
+    };
   }
 
   /**
@@ -32,8 +38,11 @@ public class SetHeading extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      return setAngle(executeNode(ANGLE));
-    });
+    if (!ANGLE.isTurtleInvariant()) {
+      return updateTurtle(TURTLE_ACTION);
+    }
+    double angle = ANGLE.execute();
+    return updateTurtles((store, IDs) -> store.setAngle(IDs, angle),
+        Turtle::tellFrontEndAngle, turtle -> Math.abs(turtle.getAngle() - angle));
   }
 }
@@ -12,10 +12,10 @@ import slogo.model.tree.TreeNode;
  */
 public class SetPalette extends DisplayAlteringCommand {
 
-  private final double INDEX;
-  private final double RED;
-  private final double GREEN;
-  private final double BLUE;
+  private final BasicCommand INDEX;
+  private final BasicCommand RED;
+  private final BasicCommand GREEN;
+  private final BasicCommand BLUE;
 
   /**
    * Makes an instance of the set palette command
@@ -26,10 +26,10 @@ public class SetPalette extends DisplayAlteringCommand {
    */
   public SetPalette(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    INDEX = loadClass(bundle, nodes.get(0)).execute();
-    RED = loadClass(bundle, nodes.get(1)).execute();
-    GREEN = loadClass(bundle, nodes.get(2)).execute();
-    BLUE = loadClass(bundle, nodes.get(3)).execute();
+    INDEX = loadClass(bundle, nodes.get(0));
+    RED = loadClass(bundle, nodes.get(1));
+    GREEN = loadClass(bundle, nodes.get(2));
+    BLUE = loadClass(bundle, nodes.get(3));
   }
 
   /**
@@ -39,7 +39,11 @@ public class SetPalette extends DisplayAlteringCommand {
    */
   @Override
   public double execute() {
-    setPalette((int) INDEX, (int) RED, (int) GREEN, (int) BLUE);
-    return INDEX;
+    double index = INDEX.execute();
+    double red = RED.execute();
+    double green = GREEN.execute();
+    double blue = BLUE.execute();
+    setPalette((int) index, (int) red, (int) green, (int) blue);
+    return index;
   }
 }
@@ -13,7 +13,7 @@ import slogo.model.tree.TreeNode;
  */
 public class SetPenColor extends DisplayAlteringCommand {
 
-  private final double INDEX;
+  private final BasicCommand INDEX;
 
   /**
    * Makes an instance of the set pen color command
@@ -23,7 +23,7 @@ public class SetPenColor extends DisplayAlteringCommand {
    */
   public SetPenColor(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    INDEX = loadClass(bundle, nodes.get(0)).execute();
+    INDEX = loadClass(bundle, nodes.get(0));
   }
 
   /**
@@ -33,7 +33,8 @@ public class SetPenColor extends DisplayAlteringCommand {
    */
   @Override
   public double execute() {
-    setPenColor((int) INDEX);
-    return INDEX;
+    double index = INDEX.execute();
+    setPenColor((int) index);
+    return index;
   }
 }
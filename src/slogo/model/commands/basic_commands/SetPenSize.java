@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class SetPenSize extends DisplayAlteringCommand {
 
-  private final double SIZE;
+  private final BasicCommand SIZE;
 
   /**
    * Makes an instance of the set pen size command
@@ -22,7 +22,7 @@ public class SetPenSize extends DisplayAlteringCommand {
    */
   public SetPenSize(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    SIZE = loadClass(bundle, nodes.get(0)).execute();
+    SIZE = loadClass(bundle, nodes.get(0));
   }
 
   /**
@@ -32,7 +32,8 @@ public class SetPenSize extends DisplayAlteringCommand {
    */
   @Override
   public double execute() {
-    setPenSize(SIZE);
-    return SIZE;
+    double size = SIZE.execute();
+    setPenSize(size);
+    return size;
   }
 }
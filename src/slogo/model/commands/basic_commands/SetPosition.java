@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,8 +14,9 @@ import slogo.model.tree.TreeNode;
  */
 public class SetPosition extends TurtleAlteringCommand {
 
-  private final TreeNode NEW_X;
-  private final TreeNode NEW_Y;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand NEW_X;
+  private final BasicCommand NEW_Y;
 
   /**
    * Makes instance of SetPosition command
@@ -23,8 +26,11 @@ public class SetPosition extends TurtleAlteringCommand {
    */
   public SetPosition(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    NEW_X = nodes.get(0);
-    NEW_Y = nodes.get(1);
+    NEW_X = loadClass(bundle, nodes.get(0));
+    NEW_Y = loadClass(bundle, nodes.get(1));
+    TURTLE_ACTION = turtle -> {
+      return setTurtlePosition(NEW_X.execute(), NEW_Y.execute());
+    };
   }
 
   /**
@@ -34,8 +40,13 @@ public class SetPosition extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      return setTurtlePosition(executeNode(NEW_X), executeNode(NEW_Y));
-    });
+    if (!NEW_X.isTurtleInvariant() || !NEW_Y.isTurtleInvariant()) {
+      return updateTurtle(TURTLE_ACTION);
+    }
+    double xPosition = NEW_X.execute();
+    double yPosition = NEW_Y.execute();
+    return updateTurtles((store, IDs) -> store.setPosition(IDs, xPosition, yPosition),
+        Turtle::tellFrontEndPosition, turtle -> Math.sqrt(Math.pow(turtle.getXPosition()
+            - xPosition, 2) + Math.pow(turtle.getYPosition() - yPosition, 2)));
   }
 }
@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class SetShape extends DisplayAlteringCommand {
 
-  private final double INDEX;
+  private final BasicCommand INDEX;
 
   /**
    * Makes an instance of the set shape command
@@ -22,7 +22,7 @@ public class SetShape extends DisplayAlteringCommand {
    */
   public SetShape(CommandInformationBundle bundle, List<TreeNode> nodes) {
     super(bundle);
-    INDEX = loadClass(bundle, nodes.get(0)).execute();
+    INDEX = loadClass(bundle, nodes.get(0));
   }
 
   /**
@@ -32,7 +32,8 @@ public class SetShape extends DisplayAlteringCommand {
    */
   @Override
   public double execute() {
-    setTurtleShape((int) INDEX);
-    return INDEX;
+    double index = INDEX.execute();
+    setTurtleShape((int) index);
+    return index;
   }
 }
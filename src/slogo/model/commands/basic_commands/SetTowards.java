@@ -1,8 +1,10 @@
 package slogo.model.commands.basic_commands;
 
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import slogo.model.commands.basic_commands.command_types.TurtleAlteringCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.execution.Turtle;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -12,8 +14,9 @@ import slogo.model.tree.TreeNode;
  */
 public class SetTowards extends TurtleAlteringCommand {
 
-  private final TreeNode X_HEADING;
-  private final TreeNode Y_HEADING;
+  private final ToDoubleFunction<Turtle> TURTLE_ACTION;
+  private final BasicCommand X_HEADING;
+  private final BasicCommand Y_HEADING;
 
 
   /**
@@ -24,8 +27,18 @@ public class SetTowards extends TurtleAlteringCommand {
    */
   public SetTowards(CommandInformationBundle informationBundle, List<TreeNode> children) {
     super(informationBundle);
-    X_HEADING = children.get(0);
-    Y_HEADING = children.get(1);
+    X_HEADING = loadClass(informationBundle, children.get(0));
+    Y_HEADING = loadClass(informationBundle, children.get(1));
+    TURTLE_ACTION = turtle -> {
+      double xDifference = X_HEADING.execute() - getXCoordinate();
+      double yDifference = Y_HEADING.execute()- getYCoordinate();
+      if(xDifference>0) {
+        return setAngle(Math.toDegrees(Math.atan(yDifference / xDifference)));
+      }
+      else{
+        return setAngle(Math.toDegrees(Math.atan(yDifference / xDifference)) + 180);
+      }
+    };
   }
 
   /**
@@ -35,15 +48,6 @@ public class SetTowards extends TurtleAlteringCommand {
    */
   @Override
   public double execute() {
-    return updateTurtle(turtle -> {
-      double xDifference = executeNode(X_HEADING) - getXCoordinate();
-      double yDifference = executeNode(Y_HEADING)- getYCoordinate();
-      if(xDifference>0) {
-        return setAngle(Math.toDegrees(Math.atan(yDifference / xDifference)));
-      }
-      else{
-        return setAngle(Math.toDegrees(Math.atan(yDifference / xDifference)) + 180);
-      }
-    });
+    return updateTurtle(TURTLE_ACTION);
   }
 }
@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Sine extends MathAndLogicCommand {
 
-  private final double ANGLE;
+  private final BasicCommand ANGLE;
 
   /**
    * Makes an instance of the sine command
@@ -22,7 +22,7 @@ public class Sine extends MathAndLogicCommand {
    */
   public Sine(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    ANGLE = loadClass(bundle, children.get(0)).execute();
+    ANGLE = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class Sine extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.sin(Math.toRadians(ANGLE));
+    return Math.sin(Math.toRadians(ANGLE.execute()));
   }
 }
@@ -12,7 +12,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Tangent extends MathAndLogicCommand {
 
-  private final double ANGLE;
+  private final BasicCommand ANGLE;
 
   /**
    * Makes an instance of the tangent command
@@ -22,7 +22,7 @@ public class Tangent extends MathAndLogicCommand {
    */
   public Tangent(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    ANGLE = loadClass(bundle, children.get(0)).execute();
+    ANGLE = loadClass(bundle, children.get(0));
   }
 
   /**
@@ -32,6 +32,6 @@ public class Tangent extends MathAndLogicCommand {
    */
   @Override
   public double execute() {
-    return Math.tan(Math.toRadians(ANGLE));
+    return Math.tan(Math.toRadians(ANGLE.execute()));
   }
 }
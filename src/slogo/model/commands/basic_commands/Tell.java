@@ -13,7 +13,7 @@ import slogo.model.tree.TreeNode;
  */
 public class Tell extends MultipleTurtleCommand {
 
-  private final List<Integer> IDS = new ArrayList<>();
+  private final List<BasicCommand> IDS = new ArrayList<>();
 
   /**
    * Gets all of the turtles that will follow future actions
@@ -24,7 +24,7 @@ public class Tell extends MultipleTurtleCommand {
     super(informationBundle);
     TreeNode IDBlock = children.get(0);
     for(TreeNode child: IDBlock.getChildren()){
-      IDS.add((int) loadClass(informationBundle, child).execute());
+      IDS.add(loadClass(informationBundle, child));
     }
   }
 
@@ -34,7 +34,8 @@ public class Tell extends MultipleTurtleCommand {
    */
   @Override
   public double execute(){
-    replaceActiveTurtleLayer(IDS);
-    return IDS.get(IDS.size()-1);
+    List<Integer> IDs = evaluateIDs(IDS);
+    replaceActiveTurtleLayer(IDs);
+    return IDs.get(IDs.size()-1);
   }
 }
@@ -1,25 +1,35 @@
 package slogo.model.commands.basic_commands;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import slogo.model.commands.basic_commands.command_types.ControlStructureCommand;
+import slogo.model.execution.ActiveTurtles;
 import slogo.model.execution.CommandInformationBundle;
 import slogo.model.tree.TreeNode;
 
 /**
- * Makes and stores a user defined command for later use
+ * Makes and stores a user defined command for later use. A call the command makes to itself as the
+ * very last thing it does is run as another pass of a loop instead of a new call, so a command
+ * that recurses this way can run any number of times without using more stack
  *
  * @author Casey Szilagyi
  */
 public class UserDefinedCommand extends ControlStructureCommand {
 
+  private static final String COMMAND_BLOCK_CLASS = CommandBlock.class.getSimpleName();
+  private static final String IF_CLASS = If.class.getSimpleName();
+  private static final String IF_ELSE_CLASS = IfElse.class.getSimpleName();
+
   private final String NAME;
-  private final List<TreeNode> PARAMETERS;
+  private final int[] PARAMETERS;
   private final TreeNode COMMAND_BLOCK;
-  private final List<TreeNode> CHILDREN;
+  private final Set<TreeNode> TAIL_CALLS = Collections.newSetFromMap(new IdentityHashMap<>());
 
-  private Map<String, Double> paramMap = new HashMap<>();
+  private BasicCommand compiledBlock;
+  private double[] pendingValues;
+  private ActiveTurtles pendingTurtles;
 
   /**
    * Is created by the MakeUserInstruction command and stored in a map, can be executed if it is
@@ -31,9 +41,12 @@ public class UserDefinedCommand extends ControlStructureCommand {
    */
   public UserDefinedCommand(CommandInformationBundle bundle, List<TreeNode> children) {
     super(bundle);
-    CHILDREN = children;
-    NAME = children.get(0).getValue();
-    PARAMETERS = children.get(1).getChildren();
+    NAME = children.get(0).getCommand();
+    List<TreeNode> parameters = children.get(1).getChildren();
+    PARAMETERS = new int[parameters.size()];
+    for (int i = 0; i < PARAMETERS.length; i++) {
+      PARAMETERS[i] = getSlot(parameters.get(i).getCommand());
+    }
     COMMAND_BLOCK = children.get(2);
   }
 
@@ -44,32 +57,97 @@ public class UserDefinedCommand extends ControlStructureCommand {
    * @return The number of parameters to expect
    */
   public int getParamCount() {
-    return PARAMETERS.size();
+    return PARAMETERS.length;
   }
 
   /**
-   * Executes the user defined command with the established map
+   * Executes the user defined command without passing any parameter values
    *
-   * @return The variable value
+   * @return The value of the last command in the command block
    */
   @Override
   public double execute() {
+    return execute(new double[0]);
+  }
+
+  /**
+   * Executes the user defined command with the given parameter values. The command block is
+   * compiled the first time the command runs rather than when it is defined, so a command is able
+   * to call itself. Each call gets its own frame of parameters
+   *
+   * @param parameterValues The values of the parameters, already evaluated by the caller
+   * @return The value of the last command in the command block
+   */
+  public double execute(double[] parameterValues) {
+    if (compiledBlock == null) {
+      findTailCalls(COMMAND_BLOCK);
+      compiledBlock = compileNode(COMMAND_BLOCK);
+    }
+    enterCommandCall();
+    addParameterMap();
+    setParameters(parameterValues);
     addTurtleLayer();
-    double result = executeNode(COMMAND_BLOCK);
+    double result = compiledBlock.execute();
+    while (pendingValues != null) {
+      double[] values = pendingValues;
+      pendingValues = null;
+      if (!getActiveTurtles().equals(pendingTurtles)) {
+        replaceTurtleLayer(pendingTurtles);
+      }
+      setParameters(values);
+      result = compiledBlock.execute();
+    }
     removeTurtleLayer();
     removeParameterMap();
+    exitCommandCall();
     return result;
   }
 
   /**
-   * Stores the parameter values in a map
+   * Checks if a node is a call to this command in tail position, meaning nothing else in the
+   * command runs after it
    *
-   * @param parameterValues The given set of parameter values
+   * @param node The node that calls a user defined command
+   * @return True if the call can be run as another pass of the loop in execute
    */
-  public void passParams(List<TreeNode> parameterValues) {
-    addParameterMap();
-    for (int i = 0; i < PARAMETERS.size(); i++) {
-      setParameter(PARAMETERS.get(i).getCommand(), executeNode(parameterValues.get(i)));
+  public boolean isTailCall(TreeNode node) {
+    return TAIL_CALLS.contains(node);
+  }
+
+  /**
+   * Called by a tail call instead of executing this command again. The values are used for the
+   * next pass once the current pass has finished
+   *
+   * @param parameterValues The values of the parameters for the next pass
+   */
+  public void requestTailCall(double[] parameterValues) {
+    pendingValues = parameterValues;
+    pendingTurtles = getActiveTurtles();
+  }
+
+  // Sets the parameters of the current frame
+  private void setParameters(double[] parameterValues) {
+    for (int i = 0; i < Math.min(PARAMETERS.length, parameterValues.length); i++) {
+      setParameter(PARAMETERS[i], parameterValues[i]);
+    }
+  }
+
+  // Finds calls to this command that are the last command to run. Only follows the last command
+  // of a block and the blocks of if statements, because every other command does more work after
+  // its children are done
+  private void findTailCalls(TreeNode node) {
+    List<TreeNode> children = node.getChildren();
+    if (NAME.equals(node.getCommand())) {
+      TAIL_CALLS.add(node);
+    } else if (children == null || children.isEmpty()) {
+      return;
+    } else if (COMMAND_BLOCK_CLASS.equals(node.getCommand())) {
+      findTailCalls(children.get(children.size() - 1));
+    } else if (IF_CLASS.equals(node.getCommand())) {
+      findTailCalls(children.get(1));
+    } else if (IF_ELSE_CLASS.equals(node.getCommand())) {
+      findTailCalls(children.get(1));
+      findTailCalls(children.get(2));
     }
   }
 }
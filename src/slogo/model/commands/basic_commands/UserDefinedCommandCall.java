@@ -0,0 +1,60 @@
+package slogo.model.commands.basic_commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import slogo.model.commands.basic_commands.command_types.ControlStructureCommand;
+import slogo.model.execution.CommandInformationBundle;
+import slogo.model.tree.TreeNode;
+
+/**
+ * This command is a single call to a user defined command. The arguments are compiled once, and
+ * the command itself is looked up by name when the call runs so that redefining a command is seen
+ * by every call to it. A call that is the last thing its own command does hands its arguments back
+ * to the running command instead of starting a new call
+ *
+ * @author Casey Szilagyi
+ */
+public class UserDefinedCommandCall extends ControlStructureCommand {
+
+  private final String NAME;
+  private final List<BasicCommand> ARGUMENTS = new ArrayList<>();
+  private final UserDefinedCommand TAIL_CALLER;
+
+  /**
+   * Makes a call to the user defined command represented by the node
+   *
+   * @param bundle     Contains the map of command names to commands
+   * @param name       The name of the user defined command
+   * @param children   The arguments that are passed to the command
+   * @param tailCaller The command this call is the last command of, or null if it isn't a tail
+   *                   call
+   */
+  public UserDefinedCommandCall(CommandInformationBundle bundle, String name,
+      List<TreeNode> children, UserDefinedCommand tailCaller) {
+    super(bundle);
+    NAME = name;
+    TAIL_CALLER = tailCaller;
+    for (TreeNode child : children) {
+      ARGUMENTS.add(loadClass(bundle, child));
+    }
+  }
+
+  /**
+   * Evaluates every argument and then runs the user defined command with them
+   *
+   * @return The value of the last command in the user defined command
+   */
+  @Override
+  public double execute() {
+    double[] values = new double[ARGUMENTS.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = ARGUMENTS.get(i).execute();
+    }
+    UserDefinedCommand command = getCommand(NAME);
+    if (command == TAIL_CALLER) {
+      command.requestTailCall(values);
+      return 0;
+    }
+    return command.execute(values);
+  }
+}
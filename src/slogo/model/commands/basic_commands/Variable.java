@@ -0,0 +1,49 @@
+package slogo.model.commands.basic_commands;
+
+import slogo.ErrorHandler;
+import slogo.model.execution.UserDefinedInformation;
+
+/**
+ * This is the Variable BasicCommand. It stores only the slot of a user defined variable or
+ * parameter, and reads the value every time it is executed. This lets a compiled command be run
+ * many times while still seeing the current value of the variable
+ *
+ * @author Casey Szilagyi
+ */
+public class Variable implements BasicCommand {
+
+  private final int SLOT;
+  private final UserDefinedInformation USER_INFORMATION;
+
+  /**
+   * Makes a variable that reads its value out of the user defined information
+   *
+   * @param userInformation Holds the variables and parameters
+   * @param name            The name of the variable, including the colon
+   */
+  public Variable(UserDefinedInformation userInformation, String name) {
+    USER_INFORMATION = userInformation;
+    SLOT = userInformation.getSlot(name);
+  }
+
+  /**
+   * Gets the current value of the variable. Parameters take priority over variables
+   *
+   * @return The value of the variable
+   * @throws ErrorHandler If there is no parameter or variable with this name
+   */
+  @Override
+  public double execute() throws ErrorHandler {
+    return USER_INFORMATION.getValue(SLOT);
+  }
+
+  /**
+   * Reading a variable changes nothing, and the turtles can't change it
+   *
+   * @return True
+   */
+  @Override
+  public boolean isTurtleInvariant() {
+    return true;
+  }
+}
@@ -11,7 +11,7 @@ import slogo.model.tree.TreeNode;
  */
 public abstract class Command implements BasicCommand {
 
-  BasicCommandClassLoader CLASS_LOADER = new BasicCommandClassLoader();
+  private static final BasicCommandClassLoader CLASS_LOADER = new BasicCommandClassLoader();
 
   /**
    * This method loads the BasicCommand class represented by the TreeNode that is passed in. Is used
@@ -1,6 +1,8 @@
 package slogo.model.commands.basic_commands.command_types;
 
+import slogo.model.commands.basic_commands.BasicCommand;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
+import slogo.model.execution.ActiveTurtles;
 import slogo.model.execution.CommandInformationBundle;
 import slogo.model.execution.TurtleInformation;
 import slogo.model.execution.UserDefinedInformation;
@@ -27,6 +29,16 @@ public abstract class ControlStructureCommand extends Command {
     INFORMATION_BUNDLE = informationBundle;
   }
 
+  /**
+   * Gets the user defined command with the given name
+   *
+   * @param name The command name
+   * @return The user defined command
+   */
+  protected UserDefinedCommand getCommand(String name) {
+    return USER_INFORMATION.getCommand(name);
+  }
+
   /**
    * Gets a command name to a TreeNode that represents it
    *
@@ -38,23 +50,48 @@ public abstract class ControlStructureCommand extends Command {
   }
 
   /**
-   * Sets a variable name to a double
+   * Gets the slot for a variable or parameter name. Done once when the command is made, so that
+   * executing the command doesn't need to look up the name
    *
-   * @param name  The variable name
+   * @param name The variable or parameter name
+   * @return The slot index
+   */
+  protected int getSlot(String name) {
+    return USER_INFORMATION.getSlot(name);
+  }
+
+  /**
+   * Sets a variable slot to a double
+   *
+   * @param slot  The variable slot
    * @param value The double value
    */
-  protected void setVariable(String name, Double value) {
-    USER_INFORMATION.addVariable(name, value);
+  protected void setVariable(int slot, double value) {
+    USER_INFORMATION.setVariable(slot, value);
   }
 
   /**
-   * Sets a parameter name to a double
+   * Sets a parameter slot to a double
    *
-   * @param name  The name of the parameter
+   * @param slot  The slot of the parameter
    * @param value The value of the parameter
    */
-  protected void setParameter(String name, Double value) {
-    USER_INFORMATION.addParameter(name, value);
+  protected void setParameter(int slot, double value) {
+    USER_INFORMATION.setParameter(slot, value);
+  }
+
+  /**
+   * Starts a call to a user defined command, checking that the maximum call depth isn't passed
+   */
+  protected void enterCommandCall() {
+    USER_INFORMATION.enterCommandCall();
+  }
+
+  /**
+   * Ends a call to a user defined command
+   */
+  protected void exitCommandCall() {
+    USER_INFORMATION.exitCommandCall();
   }
 
   /**
@@ -65,7 +102,7 @@ public abstract class ControlStructureCommand extends Command {
   }
 
   /**
-   * Removes the last param map, used when a command with parameters is done executing
+   * Adds a param map, used when a command with parameters starts executing
    */
   protected void addParameterMap() {
     USER_INFORMATION.addParameterMap();
@@ -84,14 +121,34 @@ public abstract class ControlStructureCommand extends Command {
   protected void removeTurtleLayer(){
     TURTLE_INFORMATION.removeActiveTurtleLayer();
   }
+
+  /**
+   * Gets the set of turtles that are currently active
+   *
+   * @return The active turtles
+   */
+  protected ActiveTurtles getActiveTurtles() {
+    return TURTLE_INFORMATION.getCurrentActiveTurtles();
+  }
+
+  /**
+   * Replaces the current layer of turtles with the given turtles
+   *
+   * @param turtles The turtles that are now considered active
+   */
+  protected void replaceTurtleLayer(ActiveTurtles turtles) {
+    TURTLE_INFORMATION.setActiveTurtleLayer(turtles);
+  }
   /**
-   * Executes a block of commands. This is used for looping/conditionals
+   * Compiles a block of commands into a BasicCommand that can be executed any number of times.
+   * Used when a block can't be compiled in the constructor, such as the body of a user defined
+   * command that calls itself
    *
-   * @param node The node that holds all of the commands to execute
-   * @return The double value that represents the executed command block
+   * @param node The node that holds all of the commands to compile
+   * @return The compiled command block
    */
-  protected double executeNode(TreeNode node) {
-    return loadClass(INFORMATION_BUNDLE, node).execute();
+  protected BasicCommand compileNode(TreeNode node) {
+    return loadClass(INFORMATION_BUNDLE, node);
   }
 
 
@@ -1,6 +1,10 @@
 package slogo.model.commands.basic_commands.command_types;
 
+import java.util.ArrayList;
+import java.util.List;
+import slogo.model.commands.basic_commands.BasicCommand;
 import slogo.model.execution.CommandInformationBundle;
+import slogo.model.tree.TreeNode;
 
 /**
  * This abstract class is meant to be implemented by any math/logic command that doesn't need any
@@ -10,6 +14,8 @@ import slogo.model.execution.CommandInformationBundle;
  */
 public abstract class MathAndLogicCommand extends Command {
 
+  private final List<BasicCommand> OPERANDS = new ArrayList<>();
+
   /**
    * Constructs an instance of this class type
    *
@@ -19,5 +25,31 @@ public abstract class MathAndLogicCommand extends Command {
   public MathAndLogicCommand(CommandInformationBundle informationBundle) {
   }
 
+  /**
+   * Loads an operand of this command, and keeps it so that the command knows what it depends on
+   *
+   * @return The BasicCommand represented by the TreeNode
+   */
+  @Override
+  protected BasicCommand loadClass(CommandInformationBundle informationBundle, TreeNode node) {
+    BasicCommand operand = super.loadClass(informationBundle, node);
+    OPERANDS.add(operand);
+    return operand;
+  }
 
+  /**
+   * Math and logic only depend on their operands, so the result is the same for every turtle when
+   * all of the operands are
+   *
+   * @return True if every operand does not depend on the turtles
+   */
+  @Override
+  public boolean isTurtleInvariant() {
+    for (BasicCommand operand : OPERANDS) {
+      if (!operand.isTurtleInvariant()) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
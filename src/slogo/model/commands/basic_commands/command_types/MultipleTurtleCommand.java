@@ -2,10 +2,24 @@ package slogo.model.commands.basic_commands.command_types;
 
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import slogo.ErrorHandler;
+import slogo.model.SLogoCommandExecutor;
+import slogo.model.commands.basic_commands.BasicCommand;
+import slogo.model.execution.ActiveTurtles;
 import slogo.model.execution.CommandInformationBundle;
-import slogo.model.execution.Turtle;
+import slogo.model.execution.TurtleEventRecorder;
 import slogo.model.execution.TurtleInformation;
+import slogo.model.execution.UserDefinedInformation;
 import slogo.model.tree.TreeNode;
 
 /**
@@ -16,8 +30,38 @@ import slogo.model.tree.TreeNode;
  */
 public abstract class MultipleTurtleCommand extends Command {
 
+  private static final int TURTLES_PER_SHARD = Integer.parseInt(ResourceBundle
+      .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.EXECUTION_LIMITS)
+      .getString("TurtlesPerShard"));
+  private static final int SHARDS_PER_THREAD = 4;
+  private static final ResourceBundle PER_TURTLE_RESOURCES = ResourceBundle
+      .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.PER_TURTLE_COMMANDS);
+  private static final String CHANGES = "Changes";
+  private static final String QUERIES = "Queries";
+  private static final String READS = "Reads";
+  private static final String CONTROLS = "Controls";
+  private static final String BLOCK = "Block";
+  private static final Set<String> READ_ONLY_COMMANDS = commandsOfType(QUERIES, READS, CONTROLS,
+      BLOCK);
+  private static final Set<String> ARGUMENT_COMMANDS = commandsOfType(QUERIES, READS);
+  private static final Set<String> TURTLE_FREE_COMMANDS = commandsOfType(READS, BLOCK);
+
   private final TurtleInformation TURTLE_INFORMATION;
   private final CommandInformationBundle INFORMATION_BUNDLE;
+  private final List<Shard> COMMAND_SHARDS = new ArrayList<>();
+  private final List<Shard> CONDITION_SHARDS = new ArrayList<>();
+
+  // Finds the per turtle commands that are one of the given types
+  private static Set<String> commandsOfType(String... types) {
+    Set<String> typeNames = Set.of(types);
+    Set<String> commands = new HashSet<>();
+    for (String command : PER_TURTLE_RESOURCES.keySet()) {
+      if (typeNames.contains(PER_TURTLE_RESOURCES.getString(command))) {
+        commands.add(command);
+      }
+    }
+    return Set.copyOf(commands);
+  }
 
   /**
    * Makes the command and saves the turtle information
@@ -40,21 +84,270 @@ public abstract class MultipleTurtleCommand extends Command {
 
   /**
    * Determines which turtles are active based on a conditional
-   * @param conditional The TreeNode representing the conditional
+   * @param conditionNode The node the conditional was compiled from
+   * @param conditional The compiled command representing the conditional
    */
-  protected void determineActiveTurtles(TreeNode conditional){
-    List<Turtle> allTurtles = TURTLE_INFORMATION.getAllTurtles();
-    List<Integer> nextLayer = new ArrayList<>();
-    for(Turtle turtle: allTurtles){
-      TURTLE_INFORMATION.setActiveTurtle(turtle.getID());
-      if(executeNode(conditional) != 0){
-        nextLayer.add(turtle.getID());
-      }
-    }
+  protected void determineActiveTurtles(TreeNode conditionNode, BasicCommand conditional){
+    ActiveTurtles nextLayer = ActiveTurtles.of(findTurtlesWhere(conditionNode, conditional));
     TURTLE_INFORMATION.addActiveTurtleLayer();
     TURTLE_INFORMATION.setActiveTurtleLayer(nextLayer);
   }
 
+  /**
+   * Finds every turtle that meets a condition. A condition that only reads the turtles is checked
+   * on copies of the active turtle state, so the front end is never told about the turtles it
+   * goes through, and when there are many turtles they are split into shards that are checked in
+   * parallel. A condition that might change a turtle is checked on each turtle in turn, telling the
+   * front end which turtle is active
+   *
+   * @param conditionNode The node the condition was compiled from
+   * @param condition     The compiled condition
+   * @return The IDs of the turtles that meet the condition
+   */
+  private BitSet findTurtlesWhere(TreeNode conditionNode, BasicCommand condition) {
+    int turtles = getNumberOfTurtles();
+    if (!isMadeOf(conditionNode, READ_ONLY_COMMANDS,
+        INFORMATION_BUNDLE.getUserDefinedInformation())) {
+      BitSet matches = new BitSet(turtles + 1);
+      for (int ID = 1; ID <= turtles; ID++) {
+        TURTLE_INFORMATION.setActiveTurtle(ID);
+        if (condition.execute() != 0) {
+          matches.set(ID);
+        }
+      }
+      return matches;
+    }
+    int shardCount = Math.max(1, Math.min(turtles / TURTLES_PER_SHARD,
+        ForkJoinPool.getCommonPoolParallelism() * SHARDS_PER_THREAD));
+    List<List<Integer>> firstIDs = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      firstIDs.add(List.of(1 + turtles * shard / shardCount));
+    }
+    List<Shard> conditionShards = getShards(CONDITION_SHARDS, conditionNode, firstIDs);
+    List<Callable<BitSet>> shards = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      shards.add(makeConditionShard(conditionShards.get(shard), firstIDs.get(shard).get(0),
+          1 + turtles * (shard + 1) / shardCount));
+    }
+    if (shardCount == 1) {
+      return ForkJoinTask.adapt(shards.get(0)).invoke();
+    }
+    BitSet matches = new BitSet(turtles + 1);
+    for (Future<BitSet> shardMatches : ForkJoinPool.commonPool().invokeAll(shards)) {
+      matches.or(getShardResult(shardMatches));
+    }
+    return matches;
+  }
+
+  // Checks the condition compiled in a shard for the turtles from the first ID up to but not
+  // including the last ID. Nothing the shard tells the front end is passed on
+  private Callable<BitSet> makeConditionShard(Shard shard, int firstID, int lastID) {
+    TurtleInformation turtleInformation = shard.BUNDLE.getTurtleInformation();
+    return () -> {
+      BitSet matches = new BitSet(lastID);
+      for (int ID = firstID; ID < lastID; ID++) {
+        turtleInformation.selectTurtle(ID);
+        if (shard.COMMANDS.execute() != 0) {
+          matches.set(ID);
+        }
+      }
+      return matches;
+    };
+  }
+
+  // Gets a shard for each list of turtle IDs, only compiling the node for shards that haven't been
+  // made yet. Every shard is given its turtles and an up to date copy of the variables
+  private List<Shard> getShards(List<Shard> cache, TreeNode node, List<List<Integer>> shardIDs) {
+    while (cache.size() < shardIDs.size()) {
+      TurtleEventRecorder recorder = new TurtleEventRecorder(
+          INFORMATION_BUNDLE.getModelController());
+      CommandInformationBundle bundle = INFORMATION_BUNDLE.forkForTurtles(recorder,
+          shardIDs.get(cache.size()));
+      cache.add(new Shard(recorder, bundle, loadClass(bundle, node)));
+    }
+    for (int shard = 0; shard < shardIDs.size(); shard++) {
+      Shard nextShard = cache.get(shard);
+      nextShard.BUNDLE.getTurtleInformation().resetFork(shardIDs.get(shard));
+      nextShard.BUNDLE.getUserDefinedInformation()
+          .copyFrom(INFORMATION_BUNDLE.getUserDefinedInformation());
+    }
+    return cache.subList(0, shardIDs.size());
+  }
+
+  /**
+   * Evaluates the compiled turtle IDs. Done every time the command runs so that IDs that depend on
+   * variables are up to date
+   *
+   * @param IDCommands The compiled commands that each give a turtle ID
+   * @return The list of turtle IDs
+   */
+  protected List<Integer> evaluateIDs(List<BasicCommand> IDCommands) {
+    List<Integer> IDs = new ArrayList<>();
+    for (BasicCommand IDCommand : IDCommands) {
+      IDs.add((int) IDCommand.execute());
+    }
+    return IDs;
+  }
+
+  /**
+   * Executes commands on the current active turtles. When there are many of them and the commands
+   * would do the same thing to each turtle whichever other turtles are active, the turtles are
+   * split into shards that each run the commands on their own thread. The changes each shard makes
+   * are passed on to the front end shard by shard, in the order of the active turtles, once every
+   * shard is done
+   *
+   * @param commandNode The node the commands were compiled from
+   * @param commands    The compiled commands, used when the turtles aren't split
+   * @return The value of the commands on the last active turtle
+   */
+  protected double executeOnActiveTurtles(TreeNode commandNode, BasicCommand commands) {
+    List<Integer> IDs = TURTLE_INFORMATION.getCurrentActiveTurtleList();
+    int shardCount = Math.min(IDs.size() / TURTLES_PER_SHARD,
+        ForkJoinPool.getCommonPoolParallelism() * SHARDS_PER_THREAD);
+    if (shardCount < 2 || hasRepeatedIDs(IDs) || !isPerTurtleBlock(commandNode,
+        INFORMATION_BUNDLE.getUserDefinedInformation())) {
+      return commands.execute();
+    }
+    return executeInShards(commandNode, IDs, shardCount);
+  }
+
+  // Runs the shards on the common fork join pool, then replays what each shard told the front end
+  // in order. Every shard is replayed before any error is thrown, even the ones after a shard that
+  // failed, since the changes they made to the turtle store can't be taken back
+  private double executeInShards(TreeNode commandNode, List<Integer> IDs, int shardCount) {
+    List<List<Integer>> shardIDs = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      shardIDs.add(new ArrayList<>(IDs.subList(IDs.size() * shard / shardCount,
+          IDs.size() * (shard + 1) / shardCount)));
+    }
+    List<Shard> commandShards = getShards(COMMAND_SHARDS, commandNode, shardIDs);
+    List<Callable<Double>> shards = new ArrayList<>();
+    for (Shard shard : commandShards) {
+      shards.add(shard.COMMANDS::execute);
+    }
+    List<Future<Double>> results = ForkJoinPool.commonPool().invokeAll(shards);
+    for (Shard shard : commandShards) {
+      shard.RECORDER.replay();
+      TURTLE_INFORMATION.join(shard.BUNDLE.getTurtleInformation());
+    }
+    double result = 0;
+    for (Future<Double> shardResult : results) {
+      result = getShardResult(shardResult);
+    }
+    return result;
+  }
+
+  // Gets the value of a shard that is done, throwing the error it ended with if it failed
+  private <T> T getShardResult(Future<T> result) {
+    try {
+      return result.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw (RuntimeException) e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ErrorHandler("ExecutionInterrupted");
+    }
+  }
+
+  // Checks if the same turtle is active more than once, since it can't be in two shards
+  private boolean hasRepeatedIDs(List<Integer> IDs) {
+    BitSet seen = new BitSet();
+    for (int ID : IDs) {
+      if (seen.get(ID)) {
+        return true;
+      }
+      seen.set(ID);
+    }
+    return false;
+  }
+
+  // Checks if a block of commands does the same thing to each turtle whichever other turtles are
+  // active. Only Changes commands run once for each turtle, so they must not be inside anything
+  // whose value is used, and Queries, which read whichever turtle is active, must only be in
+  // their arguments. The first child of a control structure is its condition or count, and the
+  // rest are the blocks it runs
+  private boolean isPerTurtleBlock(TreeNode node, UserDefinedInformation userInformation) {
+    String command = node.getCommand();
+    if (isMadeOf(node, TURTLE_FREE_COMMANDS, userInformation)) {
+      return true;
+    }
+    if (command == null || userInformation.hasCommand(command)
+        || !PER_TURTLE_RESOURCES.containsKey(command)
+        || QUERIES.equals(PER_TURTLE_RESOURCES.getString(command))) {
+      return false;
+    }
+    List<TreeNode> children = node.getChildren() == null ? List.of() : node.getChildren();
+    String type = PER_TURTLE_RESOURCES.getString(command);
+    for (int i = 0; i < children.size(); i++) {
+      TreeNode child = children.get(i);
+      boolean childIsPerTurtle;
+      if (CHANGES.equals(type)) {
+        childIsPerTurtle = isMadeOf(child, ARGUMENT_COMMANDS, userInformation);
+      } else if (BLOCK.equals(type) || (CONTROLS.equals(type) && i > 0)) {
+        childIsPerTurtle = isPerTurtleBlock(child, userInformation);
+      } else {
+        childIsPerTurtle = isMadeOf(child, TURTLE_FREE_COMMANDS, userInformation);
+      }
+      if (!childIsPerTurtle) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Checks if every command under the node is a constant, a variable, or one of the given
+  // commands. User defined commands never count, even if one has the same name as a given command
+  private boolean isMadeOf(TreeNode node, Set<String> commands,
+      UserDefinedInformation userInformation) {
+    String command = node.getCommand();
+    if (node.getValue() != null && node.getValue().startsWith(":")) {
+      return true;
+    }
+    if (command == null || userInformation.hasCommand(command)) {
+      return false;
+    }
+    if (!commands.contains(command) && !isConstant(command)) {
+      return false;
+    }
+    if (node.getChildren() != null) {
+      for (TreeNode child : node.getChildren()) {
+        if (!isMadeOf(child, commands, userInformation)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  // Checks if the command is a number
+  private boolean isConstant(String command) {
+    try {
+      Double.parseDouble(command);
+      return true;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  // A copy of the active turtle state with a block of commands compiled against it, kept so that
+  // the block is only compiled once however many times it is run in shards
+  private static class Shard {
+
+    private final TurtleEventRecorder RECORDER;
+    private final CommandInformationBundle BUNDLE;
+    private final BasicCommand COMMANDS;
+
+    private Shard(TurtleEventRecorder recorder, CommandInformationBundle bundle,
+        BasicCommand commands) {
+      RECORDER = recorder;
+      BUNDLE = bundle;
+      COMMANDS = commands;
+    }
+  }
+
   /**
    * Removes the layer of currently active turtles. Used when a loop is exited
    */
@@ -81,14 +374,4 @@ public abstract class MultipleTurtleCommand extends Command {
     return TURTLE_INFORMATION.getNumberOfTurtles();
   }
 
-  /**
-   * Executes the command in the node. Needed for condionals with multiple turtles
-   *
-   * @param node The node that holds all of the commands to execute
-   * @return The double value that represents the executed node
-   */
-  protected double executeNode(TreeNode node) {
-    return loadClass(INFORMATION_BUNDLE, node).execute();
-  }
-
 }
@@ -1,12 +1,12 @@
 package slogo.model.commands.basic_commands.command_types;
 
-import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.ToDoubleFunction;
 import slogo.model.execution.CommandInformationBundle;
 import slogo.model.execution.Turtle;
 import slogo.model.execution.TurtleInformation;
-import slogo.model.tree.TreeNode;
+import slogo.model.execution.TurtleStore;
 
 /**
  * This abstract class is designed to be implemented by any BasicCommand that alters the state of
@@ -16,20 +16,17 @@ import slogo.model.tree.TreeNode;
  */
 public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
 
-  private Turtle activeTurtle;
   private final TurtleInformation TURTLE_INFORMATION;
-  private final CommandInformationBundle INFORMATION_BUNDLE;
 
   /**
-   * Makes the BasicCommand and saves the turtle
+   * Makes the BasicCommand and saves the turtle information. No turtle is stored, so the same
+   * command can be executed again after the active turtles have changed
    *
    * @param informationBundle The only part of this bundle that is needed is the turtle
    */
   public TurtleAlteringCommand(CommandInformationBundle informationBundle) {
     super(informationBundle);
-    activeTurtle = informationBundle.getTurtleInformation().getActiveTurtle();
     TURTLE_INFORMATION = informationBundle.getTurtleInformation();
-    INFORMATION_BUNDLE = informationBundle;
   }
 
   /**
@@ -48,7 +45,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * @return The total change in position
    */
   protected double changeTurtlePosition(double changeX, double changeY) {
-    activeTurtle.changePosition(changeX, changeY);
+    getActiveTurtle().changePosition(changeX, changeY);
     return(Math.sqrt(Math.pow(changeX, 2) + Math.pow(changeY, 2)));
   }
 
@@ -60,9 +57,9 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * @return The total change in position
    */
   protected double setTurtlePosition(double xPosition, double yPosition) {
-    double oldX = activeTurtle.getXPosition();
-    double oldY = activeTurtle.getYPosition();
-    activeTurtle.setPosition(xPosition, yPosition);
+    double oldX = getXCoordinate();
+    double oldY = getYCoordinate();
+    getActiveTurtle().setPosition(xPosition, yPosition);
     return Math.sqrt(Math.pow(oldX-xPosition, 2) + Math.pow(oldY-yPosition, 2));
   }
 
@@ -73,7 +70,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * @return the total change in the angle
    */
   protected double rotateCounterClockwise(double change) {
-    activeTurtle.rotateCounterClockwise(change);
+    getActiveTurtle().rotateCounterClockwise(change);
     return Math.abs(change);
   }
 
@@ -85,7 +82,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    */
   protected double setAngle(double angle) {
     double oldAngle = getAngle();
-    activeTurtle.setAngle(angle);
+    getActiveTurtle().setAngle(angle);
     return(Math.abs(oldAngle-angle));
   }
 
@@ -96,7 +93,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * @return The pen state
    */
   protected double changePenState(double penState) {
-    activeTurtle.setPenState(penState);
+    getActiveTurtle().setPenState(penState);
     return penState;
   }
 
@@ -107,7 +104,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * @return The visibility
    */
   protected double changeTurtleVisibility(double visibility) {
-    activeTurtle.setVisibility(visibility);
+    getActiveTurtle().setVisibility(visibility);
     return visibility;
   }
 
@@ -115,7 +112,7 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * Resets the screen
    */
   protected void reset() {
-    activeTurtle.clearScreen();
+    getActiveTurtle().clearScreen();
   }
 
 
@@ -127,27 +124,53 @@ public abstract class TurtleAlteringCommand extends TurtleQueryCommand {
    * on the last turtle
    */
   protected double updateTurtle(ToDoubleFunction<Turtle> turtleAction) {
-    List<Integer> activeTurtleList = TURTLE_INFORMATION.getCurrentActiveTurtleList();
+    int[] activeTurtleIDs = TURTLE_INFORMATION.getCurrentActiveTurtleIDs();
     double val = 0;
-    for (int turtleID : activeTurtleList) {
-      setActiveTurtle(turtleID);
-      super.updateActiveTurtle();
-      activeTurtle = TURTLE_INFORMATION.getActiveTurtle();
-      val = turtleAction.applyAsDouble(activeTurtle);
+    for (int i = 0; i < activeTurtleIDs.length; i++) {
+      setActiveTurtle(activeTurtleIDs[i]);
+      val = turtleAction.applyAsDouble(getActiveTurtle());
     }
     return val;
   }
 
   /**
-   * Executes the node corresponding to a command. This is necessary so that the children
-   * of each command execute differently if there are queries involved that involve the specific
-   * turtles
+   * Updates all of the active turtles in the turtle store with one call, then tells the front end
+   * about each turtle in the same order that updateTurtle would. Only used when the change is the
+   * same for every turtle, so the arguments of the command are executed once. Only the store update
+   * is batched: the front end still gets a separate active turtle and update call for every
+   * turtle, since it has no way to take many turtles' changes at once
    *
-   * @param node The node that holds all of the commands to execute
-   * @return The double value that represents the executed node
+   * @param storeAction    Changes the active turtles in the store
+   * @param frontEndUpdate Tells the front end about a turtle after it was changed
+   * @param result         The value of the command, found from the last turtle before it changes
+   * @return The value of the executed command on the last turtle
    */
-  protected double executeNode(TreeNode node) {
-    return loadClass(INFORMATION_BUNDLE, node).execute();
+  protected double updateTurtles(BiConsumer<TurtleStore, int[]> storeAction,
+      Consumer<Turtle> frontEndUpdate, ToDoubleFunction<Turtle> result) {
+    int[] IDs = TURTLE_INFORMATION.getCurrentActiveTurtleIDs();
+    if (IDs.length == 0) {
+      return 0;
+    }
+    double val = result.applyAsDouble(TURTLE_INFORMATION.getTurtle(IDs[IDs.length - 1]));
+    storeAction.accept(TURTLE_INFORMATION.getTurtleStore(), IDs);
+    for (int ID : IDs) {
+      setActiveTurtle(ID);
+      frontEndUpdate.accept(getActiveTurtle());
+    }
+    return val;
+  }
+
+  /**
+   * Finds how far a turtle moves when it goes a distance in the direction it is facing
+   *
+   * @param turtle   The turtle before it moves
+   * @param distance The distance, negative for backward
+   * @return The total change in position
+   */
+  protected double distanceMoved(Turtle turtle, double distance) {
+    double radians = turtle.getAngle() / 360 * Math.PI * 2;
+    return Math.sqrt(Math.pow(distance * Math.cos(radians), 2)
+        + Math.pow(distance * Math.sin(radians), 2));
   }
 
   // Changes the turtle that is active
@@ -10,16 +10,16 @@ import slogo.model.execution.TurtleInformation;
  */
 public abstract class TurtleQueryCommand extends Command {
 
-  private Turtle activeTurtle;
   private final TurtleInformation TURTLE_INFORMATION;
 
   /**
-   * Makes the BasicCommand and saves the Turtle
+   * Makes the BasicCommand and saves the turtle information. The active turtle is looked up each
+   * time a query is made, because a compiled command can be executed many times while the active
+   * turtle changes
    *
    * @param informationBundle The bundle of information that contains the turtle
    */
   public TurtleQueryCommand(CommandInformationBundle informationBundle) {
-    activeTurtle = informationBundle.getTurtleInformation().getActiveTurtle();
     TURTLE_INFORMATION = informationBundle.getTurtleInformation();
   }
 
@@ -29,7 +29,7 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The X coordinate
    */
   protected double getXCoordinate() {
-    return activeTurtle.getXPosition();
+    return getActiveTurtle().getXPosition();
   }
 
   /**
@@ -38,7 +38,7 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The Y coordinate
    */
   protected double getYCoordinate() {
-    return activeTurtle.getYPosition();
+    return getActiveTurtle().getYPosition();
   }
 
   /**
@@ -47,7 +47,7 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The angle
    */
   protected double getAngle() {
-    return activeTurtle.getAngle();
+    return getActiveTurtle().getAngle();
   }
 
   /**
@@ -56,7 +56,7 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The pen state
    */
   protected double getPenState() {
-    return activeTurtle.getPenState();
+    return getActiveTurtle().getPenState();
   }
 
   /**
@@ -65,7 +65,7 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The pen state
    */
   protected double getVisibility() {
-    return activeTurtle.getVisibility();
+    return getActiveTurtle().getVisibility();
   }
 
   /**
@@ -74,13 +74,15 @@ public abstract class TurtleQueryCommand extends Command {
    * @return The ID
    */
   protected int getID() {
-    return activeTurtle.getID();
+    return getActiveTurtle().getID();
   }
 
   /**
-   * Updates the active turtle that the queries will act on
+   * Gets the turtle that the queries currently act on
+   *
+   * @return The active turtle
    */
-  protected void updateActiveTurtle(){
-    activeTurtle = TURTLE_INFORMATION.getActiveTurtle();
+  protected Turtle getActiveTurtle() {
+    return TURTLE_INFORMATION.getActiveTurtle();
   }
 }
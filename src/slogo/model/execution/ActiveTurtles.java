@@ -0,0 +1,202 @@
+package slogo.model.execution;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An unchangeable set of active turtle IDs, kept as compactly as the IDs allow. A run of IDs with
+ * no gaps is only its first and last ID, IDs in increasing order are a bitset, and only IDs in any
+ * other order, or with repeats, are kept as a list of every ID. Since a set can never change, the
+ * same one can be shared by every layer of active turtles that has it, and the array and list of
+ * its IDs are only made the first time they are needed
+ *
+ * @author Casey Szilagyi
+ */
+public final class ActiveTurtles {
+
+  private final int FIRST;
+  private final int LAST;
+  private final BitSet MEMBERS;
+  private volatile int[] cachedIDs;
+  private volatile List<Integer> cachedList;
+
+  private ActiveTurtles(int first, int last, BitSet members, int[] IDs) {
+    FIRST = first;
+    LAST = last;
+    MEMBERS = members;
+    cachedIDs = IDs;
+  }
+
+  /**
+   * Makes the set of every ID from the first to the last
+   *
+   * @param first The first ID
+   * @param last  The last ID, less than the first for an empty set
+   * @return The set of IDs
+   */
+  public static ActiveTurtles range(int first, int last) {
+    return new ActiveTurtles(first, Math.max(first - 1, last), null, null);
+  }
+
+  /**
+   * Makes the set of the IDs in a bitset, in increasing order
+   *
+   * @param members The IDs
+   * @return The set of IDs
+   */
+  public static ActiveTurtles of(BitSet members) {
+    if (members.isEmpty()) {
+      return range(1, 0);
+    }
+    int first = members.nextSetBit(0);
+    int last = members.length() - 1;
+    if (members.cardinality() == last - first + 1) {
+      return range(first, last);
+    }
+    return new ActiveTurtles(first, last, (BitSet) members.clone(), null);
+  }
+
+  /**
+   * Makes the set of the IDs in a list, keeping their order and any repeats
+   *
+   * @param IDList The IDs
+   * @return The set of IDs
+   */
+  public static ActiveTurtles of(List<Integer> IDList) {
+    BitSet members = new BitSet();
+    int previous = 0;
+    for (int ID : IDList) {
+      if (ID <= previous) {
+        int[] IDs = IDList.stream().mapToInt(Integer::intValue).toArray();
+        return new ActiveTurtles(IDs[0], Arrays.stream(IDs).max().getAsInt(), null, IDs);
+      }
+      members.set(ID);
+      previous = ID;
+    }
+    return of(members);
+  }
+
+  /**
+   * Gets the number of IDs, counting repeats
+   *
+   * @return The number of IDs
+   */
+  public int size() {
+    if (cachedIDs != null) {
+      return cachedIDs.length;
+    }
+    return MEMBERS == null ? LAST - FIRST + 1 : MEMBERS.cardinality();
+  }
+
+  /**
+   * Gets the first ID
+   *
+   * @return The first ID
+   */
+  public int getFirst() {
+    return FIRST;
+  }
+
+  /**
+   * Gets the highest ID
+   *
+   * @return The highest ID, or less than the first ID if there are none
+   */
+  public int getHighest() {
+    return LAST;
+  }
+
+  /**
+   * Gets the IDs in order. The array is shared, so it must not be changed
+   *
+   * @return The IDs
+   */
+  public int[] toArray() {
+    int[] array = cachedIDs;
+    if (array == null) {
+      array = MEMBERS == null ? rangeArray() : MEMBERS.stream().toArray();
+      cachedIDs = array;
+    }
+    return array;
+  }
+
+  /**
+   * Gets the IDs in order as a list that can't be changed
+   *
+   * @return The IDs
+   */
+  public List<Integer> asList() {
+    List<Integer> list = cachedList;
+    if (list == null) {
+      list = new IDListView(toArray());
+      cachedList = list;
+    }
+    return list;
+  }
+
+  // Makes the array of a run of IDs
+  private int[] rangeArray() {
+    int[] array = new int[LAST - FIRST + 1];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = FIRST + i;
+    }
+    return array;
+  }
+
+  /**
+   * Checks if another set has the same IDs in the same order. Sets kept the same way are compared
+   * without making their arrays
+   *
+   * @param other The other set
+   * @return True if the IDs are the same
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ActiveTurtles)) {
+      return false;
+    }
+    ActiveTurtles turtles = (ActiveTurtles) other;
+    if (FIRST != turtles.FIRST || LAST != turtles.LAST) {
+      return false;
+    }
+    if (MEMBERS == null && cachedIDs == null && turtles.MEMBERS == null
+        && turtles.cachedIDs == null) {
+      return true;
+    }
+    if (MEMBERS != null && turtles.MEMBERS != null) {
+      return MEMBERS.equals(turtles.MEMBERS);
+    }
+    return Arrays.equals(toArray(), turtles.toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  // A list of the IDs that reads straight out of the array
+  private static class IDListView extends AbstractList<Integer> implements RandomAccess {
+
+    private final int[] IDs;
+
+    private IDListView(int[] IDs) {
+      this.IDs = IDs;
+    }
+
+    @Override
+    public Integer get(int index) {
+      return IDs[index];
+    }
+
+    @Override
+    public int size() {
+      return IDs.length;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package slogo.model.execution;
 
+import java.util.List;
 import slogo.controller.BackEndExternalAPI;
 
 /**
@@ -30,6 +31,31 @@ public class CommandInformationBundle {
 
   }
 
+  // Makes a bundle out of information that already exists
+  private CommandInformationBundle(BackEndExternalAPI modelController,
+      UserDefinedInformation userInformation, TurtleInformation turtleInformation,
+      DisplayInformation displayInformation) {
+    MODEL_CONTROLLER = modelController;
+    USER_INFORMATION = userInformation;
+    TURTLE_INFORMATION = turtleInformation;
+    DISPLAY_INFORMATION = displayInformation;
+  }
+
+  /**
+   * Makes a bundle for commands that run on another thread and only change the given turtles. The
+   * turtles are shared with this bundle, but the active turtles and the parameters are copies, and
+   * every change is passed to the given model controller instead
+   *
+   * @param modelController The model controller that the new bundle passes changes to
+   * @param activeTurtles   The IDs of the turtles the commands run on
+   * @return The new bundle
+   */
+  public CommandInformationBundle forkForTurtles(BackEndExternalAPI modelController,
+      List<Integer> activeTurtles) {
+    return new CommandInformationBundle(modelController, USER_INFORMATION.fork(modelController),
+        TURTLE_INFORMATION.fork(modelController, activeTurtles), DISPLAY_INFORMATION);
+  }
+
   /**
    * Gets the model controller. Used for the commands to pass information to the front end
    *
@@ -1,41 +1,49 @@
 package slogo.model.execution;
 
-import java.util.Arrays;
-import java.util.List;
 import slogo.controller.BackEndExternalAPI;
-import slogo.controller.ModelController;
 
 /**
  * This turtle class is the backend representation of the turtle so that commands can be called on
- * the turtle to move/rotate it
+ * the turtle to move/rotate it. A turtle is only a handle on one row of the turtle store, so it
+ * can be made whenever it is needed, and every change made through it is passed on to the front
+ * end
  */
 public class Turtle {
 
   private final BackEndExternalAPI MODEL_CONTROLLER;
-
-  private double angle = 90;
-  private double xPosition = 0;
-  private double yPosition = 0;
-  private double isVisible = 1;
-  private double penState = 1;
-  private double clearScreen = 0;
-  private int ID;
+  private final TurtleStore STORE;
+  private final int ID;
 
   /**
-   * Default constructor
+   * Makes a handle on a turtle that is in the store
+   *
+   * @param turtleID        The ID of the turtle
+   * @param store           The store that holds the turtle's state
+   * @param modelController The model controller that changes are passed to
    */
-  public Turtle(int turtleID, BackEndExternalAPI modelController) {
+  public Turtle(int turtleID, TurtleStore store, BackEndExternalAPI modelController) {
     MODEL_CONTROLLER = modelController;
+    STORE = store;
     ID = turtleID;
   }
 
   // Tells a front end when a new turtle is made
   public void tellFrontEnd(){
     MODEL_CONTROLLER.setActiveTurtle(ID);
-    MODEL_CONTROLLER.setTurtlePosition(xPosition, yPosition);
-    MODEL_CONTROLLER.setTurtleAngle(angle);
-    MODEL_CONTROLLER.setPenState(penState);
-    MODEL_CONTROLLER.setTurtleVisibility(isVisible);
+    MODEL_CONTROLLER.setTurtlePosition(getXPosition(), getYPosition());
+    MODEL_CONTROLLER.setTurtleAngle(getAngle());
+    MODEL_CONTROLLER.setPenState(getPenState());
+    MODEL_CONTROLLER.setTurtleVisibility(getVisibility());
+  }
+
+  // Tells the front end where the turtle is, after the store was changed directly
+  public void tellFrontEndPosition() {
+    MODEL_CONTROLLER.setTurtlePosition(getXPosition(), getYPosition());
+  }
+
+  // Tells the front end which way the turtle faces, after the store was changed directly
+  public void tellFrontEndAngle() {
+    MODEL_CONTROLLER.setTurtleAngle(getAngle());
   }
 
   /**
@@ -51,12 +59,7 @@ public class Turtle {
    * Sets the angle that the turtle is facing
    */
   public void setAngle(double newAngle) {
-    angle = newAngle;
-    angle = angle % 360;
-    if (angle < 0) {
-      angle += 360;
-    }
-    MODEL_CONTROLLER.setTurtleAngle(getAngle());
+    MODEL_CONTROLLER.setTurtleAngle(STORE.setAngle(ID, newAngle));
   }
 
   /**
@@ -65,7 +68,7 @@ public class Turtle {
    * @return The angle
    */
   public double getAngle() {
-    return angle;
+    return STORE.getAngle(ID);
   }
 
   /**
@@ -74,12 +77,7 @@ public class Turtle {
    * @param rotate The change in the angle, in a counterclockwise direction
    */
   public void rotateCounterClockwise(double rotate) {
-    angle += rotate;
-    angle = angle % 360;
-    if (angle < 0) {
-      angle += 360;
-    }
-    MODEL_CONTROLLER.setTurtleAngle(getAngle());
+    setAngle(getAngle() + rotate);
   }
 
   /**
@@ -89,9 +87,7 @@ public class Turtle {
    * @param changeY The change in Y position
    */
   public void changePosition(double changeX, double changeY) {
-    xPosition += changeX;
-    yPosition += changeY;
-    MODEL_CONTROLLER.setTurtlePosition(getXPosition(), getYPosition());
+    setPosition(getXPosition() + changeX, getYPosition() + changeY);
   }
 
   /**
@@ -101,9 +97,8 @@ public class Turtle {
    * @param yPos The Y position
    */
   public void setPosition(double xPos, double yPos) {
-    xPosition = xPos;
-    yPosition = yPos;
-    MODEL_CONTROLLER.setTurtlePosition(getXPosition(), getYPosition());
+    STORE.setPosition(ID, xPos, yPos);
+    MODEL_CONTROLLER.setTurtlePosition(xPos, yPos);
   }
 
   /**
@@ -112,7 +107,7 @@ public class Turtle {
    * @return The X position of the turtle
    */
   public double getXPosition() {
-    return xPosition;
+    return STORE.getXPosition(ID);
   }
 
   /**
@@ -121,7 +116,7 @@ public class Turtle {
    * @return The Y position of the turtle
    */
   public double getYPosition() {
-    return yPosition;
+    return STORE.getYPosition(ID);
   }
 
   /**
@@ -130,7 +125,7 @@ public class Turtle {
    * @return The turtle's visibility
    */
   public double getVisibility() {
-    return isVisible;
+    return STORE.getVisibility(ID);
   }
 
   /**
@@ -140,7 +135,7 @@ public class Turtle {
    */
   public void setVisibility(double visibility) {
     MODEL_CONTROLLER.setTurtleVisibility(visibility);
-    isVisible = visibility;
+    STORE.setVisibility(ID, visibility);
   }
 
   /**
@@ -149,7 +144,7 @@ public class Turtle {
    * @return The pen state
    */
   public double getPenState() {
-    return penState;
+    return STORE.getPenState(ID);
   }
 
   /**
@@ -158,7 +153,7 @@ public class Turtle {
    * @param userPenState The pen state
    */
   public void setPenState(double userPenState) {
-    penState = userPenState;
+    STORE.setPenState(ID, userPenState);
     MODEL_CONTROLLER.setPenState(userPenState);
   }
 
@@ -169,4 +164,4 @@ public class Turtle {
     MODEL_CONTROLLER.clearScreen();
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package slogo.model.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.FrontEndExternalAPI;
+import slogo.model.commands.basic_commands.UserDefinedCommand;
+
+/**
+ * Stands in for the model controller while commands run on another thread. Every change that
+ * would be passed on to the front end is kept in order instead, and is passed on to the real model
+ * controller when the recording is replayed on the thread that owns it. Everything else is asked
+ * of the real model controller
+ *
+ * @author Casey Szilagyi
+ */
+public class TurtleEventRecorder implements BackEndExternalAPI {
+
+  private final BackEndExternalAPI MODEL_CONTROLLER;
+  private final List<Consumer<BackEndExternalAPI>> EVENTS = new ArrayList<>();
+
+  /**
+   * Makes an empty recording
+   *
+   * @param modelController The model controller that the recording is replayed to
+   */
+  public TurtleEventRecorder(BackEndExternalAPI modelController) {
+    MODEL_CONTROLLER = modelController;
+  }
+
+  /**
+   * Passes every recorded change on to the model controller in the order it was made, and empties
+   * the recording
+   */
+  public void replay() {
+    for (Consumer<BackEndExternalAPI> event : EVENTS) {
+      event.accept(MODEL_CONTROLLER);
+    }
+    EVENTS.clear();
+  }
+
+  @Override
+  public Map<String, Double> getVariables() {
+    return MODEL_CONTROLLER.getVariables();
+  }
+
+  @Override
+  public Map<String, UserDefinedCommand> getUserDefinedCommands() {
+    return MODEL_CONTROLLER.getUserDefinedCommands();
+  }
+
+  @Override
+  public void executeCommand(String input) {
+    EVENTS.add(modelController -> modelController.executeCommand(input));
+  }
+
+  @Override
+  public String getLanguage() {
+    return MODEL_CONTROLLER.getLanguage();
+  }
+
+  @Override
+  public void setViewController(FrontEndExternalAPI viewController) {
+    EVENTS.add(modelController -> modelController.setViewController(viewController));
+  }
+
+  @Override
+  public void setTurtlePosition(double xPosition, double yPosition) {
+    EVENTS.add(modelController -> modelController.setTurtlePosition(xPosition, yPosition));
+  }
+
+  @Override
+  public void setTurtleAngle(double angle) {
+    EVENTS.add(modelController -> modelController.setTurtleAngle(angle));
+  }
+
+  @Override
+  public void setPenState(double penState) {
+    EVENTS.add(modelController -> modelController.setPenState(penState));
+  }
+
+  @Override
+  public void setTurtleVisibility(double visibility) {
+    EVENTS.add(modelController -> modelController.setTurtleVisibility(visibility));
+  }
+
+  @Override
+  public void clearScreen() {
+    EVENTS.add(BackEndExternalAPI::clearScreen);
+  }
+
+  @Override
+  public void setActiveTurtle(int turtleID) {
+    EVENTS.add(modelController -> modelController.setActiveTurtle(turtleID));
+  }
+
+  @Override
+  public void setActiveTurtles(List<Integer> IDs) {
+    List<Integer> activeTurtles = List.copyOf(IDs);
+    EVENTS.add(modelController -> modelController.setActiveTurtles(activeTurtles));
+  }
+
+  @Override
+  public void setBackgroundColor(int index) {
+    EVENTS.add(modelController -> modelController.setBackgroundColor(index));
+  }
+
+  @Override
+  public void setPenColor(int index) {
+    EVENTS.add(modelController -> modelController.setPenColor(index));
+  }
+
+  @Override
+  public void setTurtleShape(int index) {
+    EVENTS.add(modelController -> modelController.setTurtleShape(index));
+  }
+
+  @Override
+  public void setPalette(int index, int red, int green, int blue) {
+    EVENTS.add(modelController -> modelController.setPalette(index, red, green, blue));
+  }
+
+  @Override
+  public void setPenSize(double penSize) {
+    EVENTS.add(modelController -> modelController.setPenSize(penSize));
+  }
+}
@@ -6,7 +6,10 @@ import slogo.controller.BackEndExternalAPI;
 
 /**
  * This class holds and keeps track of the current set of active turtles. It has a variety of
- * methods in order to deal with nested loops and more complex scenarios
+ * methods in order to deal with nested loops and more complex scenarios. The turtles themselves
+ * are kept in a turtle store, and Turtle handles on them are made when they are asked for. Each
+ * layer of active turtles is an unchangeable set, so a new layer shares the set of the layer
+ * under it until it is given a different one
  *
  * @author Casey Szilagyi
  */
@@ -14,22 +17,30 @@ public class TurtleInformation {
 
   private final BackEndExternalAPI MODEL_CONTROLLER;
 
-  private final List<Turtle> ALL_TURTLES = new ArrayList<>();
-  private final List<List<Integer>> CURRENT_ACTIVE_TURTLES = new ArrayList<>();
-  private Integer activeTurtleID;
+  private final TurtleStore STORE;
+  private final List<ActiveTurtles> CURRENT_ACTIVE_TURTLES = new ArrayList<>();
+  private Turtle activeTurtle;
 
   public TurtleInformation(BackEndExternalAPI modelController) {
     MODEL_CONTROLLER = modelController;
+    STORE = new TurtleStore();
     addFirstTurtleLayer();
   }
 
+  // Shares the store of another turtle information, with only the given turtles active
+  private TurtleInformation(BackEndExternalAPI modelController, TurtleStore store,
+      ActiveTurtles activeTurtles) {
+    MODEL_CONTROLLER = modelController;
+    STORE = store;
+    CURRENT_ACTIVE_TURTLES.add(activeTurtles);
+    activeTurtle = getTurtle(activeTurtles.getFirst());
+  }
+
   // Adds the first turtle and sets up the layers
   private void addFirstTurtleLayer() {
-    List<Integer> firstLayer = new ArrayList<Integer>();
-    firstLayer.add(1);
-    CURRENT_ACTIVE_TURTLES.add(firstLayer);
-    ALL_TURTLES.add(new Turtle(1, MODEL_CONTROLLER));
-    activeTurtleID = 1;
+    CURRENT_ACTIVE_TURTLES.add(ActiveTurtles.range(1, 1));
+    STORE.addTurtlesUpTo(1);
+    activeTurtle = getTurtle(1);
   }
 
   /**
@@ -38,7 +49,7 @@ public class TurtleInformation {
    * @return the turtle
    */
   public Turtle getActiveTurtle() {
-    return ALL_TURTLES.get(activeTurtleID - 1);
+    return activeTurtle;
   }
 
   /**
@@ -47,7 +58,7 @@ public class TurtleInformation {
    * @return The turtle
    */
   public Turtle getTurtle(int ID){
-    return ALL_TURTLES.get(ID-1);
+    return new Turtle(ID, STORE, MODEL_CONTROLLER);
   }
 
   /**
@@ -56,16 +67,68 @@ public class TurtleInformation {
    * @param ID The ID of the turtle
    */
   public void setActiveTurtle(int ID) {
-    activeTurtleID = ID;
+    if (activeTurtle.getID() != ID) {
+      activeTurtle = getTurtle(ID);
+    }
     MODEL_CONTROLLER.setActiveTurtle(ID);
   }
 
   /**
-   * Gets a list of all the turltes
-   * @return The list of all the turtles
+   * Makes a turtle information for commands that run on another thread. It shares the turtle
+   * store, but has its own active turtles, so the given turtles can be changed on that thread
+   * while other threads change other turtles
+   *
+   * @param modelController The model controller the changes are passed to
+   * @param activeTurtles   The IDs of the turtles that are active, which must all exist
+   * @return The turtle information for the given turtles
+   */
+  public TurtleInformation fork(BackEndExternalAPI modelController, List<Integer> activeTurtles) {
+    return new TurtleInformation(modelController, STORE, ActiveTurtles.of(activeTurtles));
+  }
+
+  /**
+   * Gives a forked turtle information a new set of active turtles, dropping every layer it had, so
+   * that commands already compiled against it can run again on other turtles. The front end is not
+   * told
+   *
+   * @param activeTurtles The IDs of the turtles that are active, which must all exist
+   */
+  public void resetFork(List<Integer> activeTurtles) {
+    CURRENT_ACTIVE_TURTLES.clear();
+    CURRENT_ACTIVE_TURTLES.add(ActiveTurtles.of(activeTurtles));
+    activeTurtle = getTurtle(activeTurtles.get(0));
+  }
+
+  /**
+   * Makes the turtle that was last active in a forked turtle information the active turtle here,
+   * as if the commands that ran there had run here. The front end is not told, since it was
+   * already told by the forked turtle information
+   *
+   * @param forked The turtle information that was forked from this one
+   */
+  public void join(TurtleInformation forked) {
+    activeTurtle = getTurtle(forked.getActiveTurtle().getID());
+  }
+
+  /**
+   * Makes a turtle the one that commands act on without telling the front end. Only used for
+   * commands that read the turtle and change nothing
+   *
+   * @param ID The ID of the turtle
+   */
+  public void selectTurtle(int ID) {
+    if (activeTurtle.getID() != ID) {
+      activeTurtle = getTurtle(ID);
+    }
+  }
+
+  /**
+   * Gets the store that holds the state of every turtle
+   *
+   * @return The turtle store
    */
-  public List<Turtle> getAllTurtles(){
-    return ALL_TURTLES;
+  public TurtleStore getTurtleStore() {
+    return STORE;
   }
 
   /**
@@ -74,7 +137,7 @@ public class TurtleInformation {
    * @return The number of turtles
    */
   public int getNumberOfTurtles() {
-    return ALL_TURTLES.size();
+    return STORE.size();
   }
 
   /**
@@ -83,28 +146,46 @@ public class TurtleInformation {
    * @return The list of turtle IDs
    */
   public List<Integer> getCurrentActiveTurtleList() {
+    return getCurrentActiveTurtles().asList();
+  }
+
+  /**
+   * Gets the set of current active turtles
+   *
+   * @return The active turtles
+   */
+  public ActiveTurtles getCurrentActiveTurtles() {
     return CURRENT_ACTIVE_TURTLES.get(CURRENT_ACTIVE_TURTLES.size() - 1);
   }
 
+  /**
+   * Gets the IDs of the current active turtles as an array, for commands that change all of them
+   * in the turtle store at once
+   *
+   * @return The turtle IDs, in the order they were made active. The array is shared, so it must
+   * not be changed
+   */
+  public int[] getCurrentActiveTurtleIDs() {
+    return getCurrentActiveTurtles().toArray();
+  }
+
   // Makes new turtles up to the given ID. Automatically called when the user
   // tries to add turtles that don't exist yet
   private void makeNewTurtles(int ID) {
-    for (int i = ALL_TURTLES.size() + 1; i <= ID; i++) {
-      ALL_TURTLES.add(new Turtle(i, MODEL_CONTROLLER));
-      ALL_TURTLES.get(i - 1).tellFrontEnd();
-      activeTurtleID = i;
+    int firstNewID = STORE.size() + 1;
+    STORE.addTurtlesUpTo(ID);
+    for (int i = firstNewID; i <= ID; i++) {
+      activeTurtle = getTurtle(i);
+      activeTurtle.tellFrontEnd();
     }
   }
 
   /**
-   * Adds a new list and copies the previous list for a nested loop. Also makes the current active
-   * turtle index for this new list equal to 0, so that the commands in the loop execute for each
-   * turtle.
+   * Adds a new layer for a nested loop or command call, with the same active turtles as the layer
+   * under it. The set is shared rather than copied, since it can't be changed
    */
   public void addActiveTurtleLayer() {
-    List<Integer> nextLayer = new ArrayList<>();
-    nextLayer.addAll(CURRENT_ACTIVE_TURTLES.get(CURRENT_ACTIVE_TURTLES.size() - 1));
-    CURRENT_ACTIVE_TURTLES.add(nextLayer);
+    CURRENT_ACTIVE_TURTLES.add(getCurrentActiveTurtles());
   }
 
   /**
@@ -113,26 +194,59 @@ public class TurtleInformation {
    * @param nextLayer The set of active turtle IDS
    */
   public void setActiveTurtleLayer(List<Integer> nextLayer) {
+    setActiveTurtleLayer(ActiveTurtles.of(nextLayer));
+  }
+
+  /**
+   * Replaces the active turtles with the set passed in. The front end is only sent the new set if
+   * it is different from the one it replaces
+   *
+   * @param nextLayer The set of active turtles
+   */
+  public void setActiveTurtleLayer(ActiveTurtles nextLayer) {
     checkForNewHighestID(nextLayer);
+    ActiveTurtles previousLayer = getCurrentActiveTurtles();
     CURRENT_ACTIVE_TURTLES.set(CURRENT_ACTIVE_TURTLES.size()-1, nextLayer);
-    setActiveTurtle(nextLayer.get(0));
-    MODEL_CONTROLLER.setActiveTurtles(nextLayer);
+    if (nextLayer.size() > 0) {
+      setActiveTurtle(nextLayer.getFirst());
+    }
+    if (!nextLayer.equals(previousLayer)) {
+      MODEL_CONTROLLER.setActiveTurtles(nextLayer.asList());
+    }
   }
 
   // Checks for a higher ID, because new turtles will need to be made
-  private void checkForNewHighestID(List<Integer> nextLayer) {
-    for (int ID : nextLayer) {
-      if (ID > ALL_TURTLES.size()) {
-        makeNewTurtles(ID);
-      }
+  private void checkForNewHighestID(ActiveTurtles nextLayer) {
+    if (nextLayer.getHighest() > STORE.size()) {
+      makeNewTurtles(nextLayer.getHighest());
     }
   }
 
   /**
-   * Removes the current set of active turtles
+   * Removes every layer of active turtles except the first one. Used after an error, when the
+   * commands that added layers never got to remove them
+   */
+  public void resetActiveTurtleLayers() {
+    if (CURRENT_ACTIVE_TURTLES.size() > 1) {
+      ActiveTurtles previousLayer = getCurrentActiveTurtles();
+      CURRENT_ACTIVE_TURTLES.subList(1, CURRENT_ACTIVE_TURTLES.size()).clear();
+      tellFrontEndIfChanged(previousLayer);
+    }
+  }
+
+  /**
+   * Removes the current set of active turtles. The front end is only sent the set under it if the
+   * two are different
    */
   public void removeActiveTurtleLayer() {
-    CURRENT_ACTIVE_TURTLES.remove(CURRENT_ACTIVE_TURTLES.size() - 1);
-    MODEL_CONTROLLER.setActiveTurtles(getCurrentActiveTurtleList());
+    ActiveTurtles previousLayer = CURRENT_ACTIVE_TURTLES.remove(CURRENT_ACTIVE_TURTLES.size() - 1);
+    tellFrontEndIfChanged(previousLayer);
+  }
+
+  // Sends the current set of active turtles to the front end if it isn't the one it replaced
+  private void tellFrontEndIfChanged(ActiveTurtles previousLayer) {
+    if (!getCurrentActiveTurtles().equals(previousLayer)) {
+      MODEL_CONTROLLER.setActiveTurtles(getCurrentActiveTurtleList());
+    }
   }
 }
@@ -0,0 +1,170 @@
+package slogo.model.execution;
+
+import java.util.Arrays;
+
+/**
+ * Holds the state of every turtle in columns: one primitive array each for the x positions, y
+ * positions, angles, pen states and visibilities, where the turtle with ID n is at index n - 1. A
+ * turtle costs 40 bytes and no objects, and commands that change many turtles go down the columns
+ * in plain loops. The store never tells the front end anything, that is left to the Turtle handles
+ * that read and write it
+ *
+ * @author Casey Szilagyi
+ */
+public class TurtleStore {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final double START_ANGLE = 90;
+  private static final double START_POSITION = 0;
+  private static final double START_PEN_STATE = 1;
+  private static final double START_VISIBILITY = 1;
+
+  private double[] xPositions = new double[INITIAL_CAPACITY];
+  private double[] yPositions = new double[INITIAL_CAPACITY];
+  private double[] angles = new double[INITIAL_CAPACITY];
+  private double[] penStates = new double[INITIAL_CAPACITY];
+  private double[] visibilities = new double[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Adds turtles at the start position until there are as many as the given ID
+   *
+   * @param ID The highest ID that should exist
+   */
+  public void addTurtlesUpTo(int ID) {
+    if (ID > xPositions.length) {
+      int capacity = Math.max(ID, xPositions.length * 2);
+      xPositions = Arrays.copyOf(xPositions, capacity);
+      yPositions = Arrays.copyOf(yPositions, capacity);
+      angles = Arrays.copyOf(angles, capacity);
+      penStates = Arrays.copyOf(penStates, capacity);
+      visibilities = Arrays.copyOf(visibilities, capacity);
+    }
+    for (int index = size; index < ID; index++) {
+      xPositions[index] = START_POSITION;
+      yPositions[index] = START_POSITION;
+      angles[index] = START_ANGLE;
+      penStates[index] = START_PEN_STATE;
+      visibilities[index] = START_VISIBILITY;
+    }
+    size = Math.max(size, ID);
+  }
+
+  /**
+   * Gets the number of turtles in the store. Their IDs go from 1 up to this number
+   *
+   * @return The number of turtles
+   */
+  public int size() {
+    return size;
+  }
+
+  public double getXPosition(int ID) {
+    return xPositions[ID - 1];
+  }
+
+  public double getYPosition(int ID) {
+    return yPositions[ID - 1];
+  }
+
+  /**
+   * Sets where a turtle is
+   *
+   * @param ID   The ID of the turtle
+   * @param xPos The x position
+   * @param yPos The y position
+   */
+  public void setPosition(int ID, double xPos, double yPos) {
+    xPositions[ID - 1] = xPos;
+    yPositions[ID - 1] = yPos;
+  }
+
+  public double getAngle(int ID) {
+    return angles[ID - 1];
+  }
+
+  /**
+   * Sets the angle of a turtle, kept between 0 and 360 degrees
+   *
+   * @param ID    The ID of the turtle
+   * @param angle The angle in degrees
+   * @return The angle the turtle now has
+   */
+  public double setAngle(int ID, double angle) {
+    angle = angle % 360;
+    if (angle < 0) {
+      angle += 360;
+    }
+    angles[ID - 1] = angle;
+    return angle;
+  }
+
+  public double getPenState(int ID) {
+    return penStates[ID - 1];
+  }
+
+  public void setPenState(int ID, double penState) {
+    penStates[ID - 1] = penState;
+  }
+
+  public double getVisibility(int ID) {
+    return visibilities[ID - 1];
+  }
+
+  public void setVisibility(int ID, double visibility) {
+    visibilities[ID - 1] = visibility;
+  }
+
+  /**
+   * Moves each of the given turtles the same distance in the direction it is facing, going down
+   * the columns in one loop
+   *
+   * @param IDs      The IDs of the turtles to move
+   * @param distance The distance to move, negative to move backward
+   */
+  public void moveForward(int[] IDs, double distance) {
+    for (int ID : IDs) {
+      int index = ID - 1;
+      double radians = angles[index] / 360 * Math.PI * 2;
+      xPositions[index] += distance * Math.cos(radians);
+      yPositions[index] += distance * Math.sin(radians);
+    }
+  }
+
+  /**
+   * Turns each of the given turtles by the same angle, keeping the angles between 0 and 360
+   *
+   * @param IDs    The IDs of the turtles to turn
+   * @param change The change in degrees, in the counterclockwise direction
+   */
+  public void rotateCounterClockwise(int[] IDs, double change) {
+    for (int ID : IDs) {
+      setAngle(ID, angles[ID - 1] + change);
+    }
+  }
+
+  /**
+   * Points each of the given turtles at the same angle
+   *
+   * @param IDs   The IDs of the turtles to turn
+   * @param angle The angle in degrees
+   */
+  public void setAngle(int[] IDs, double angle) {
+    for (int ID : IDs) {
+      setAngle(ID, angle);
+    }
+  }
+
+  /**
+   * Puts each of the given turtles at the same position
+   *
+   * @param IDs  The IDs of the turtles to move
+   * @param xPos The x position
+   * @param yPos The y position
+   */
+  public void setPosition(int[] IDs, double xPos, double yPos) {
+    for (int ID : IDs) {
+      setPosition(ID, xPos, yPos);
+    }
+  }
+}
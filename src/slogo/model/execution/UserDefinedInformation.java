@@ -1,33 +1,100 @@
 package slogo.model.execution;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.ResourceBundle;
 import slogo.ErrorHandler;
 import slogo.controller.BackEndExternalAPI;
+import slogo.model.SLogoCommandExecutor;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
 
 /**
  * Stores all of the user defined parameters/variables/commands and has methods that deal with
- * their management
+ * their management. Variables and parameters are kept in slots: every name is given an index, and
+ * a parameter set inside a loop or command replaces the current value in its slot until the loop
+ * or command is done
  */
 public class UserDefinedInformation {
 
   private final BackEndExternalAPI MODEL_CONTROLLER;
 
-  private final Map<String, Double> VARIABLES = new HashMap<>();
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int MAX_CALL_DEPTH = Integer.parseInt(ResourceBundle
+      .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.EXECUTION_LIMITS)
+      .getString("MaxCallDepth"));
+
   private final Map<String, UserDefinedCommand> COMMANDS = new HashMap<>();
-  private final List<Map<String, Double>> PARAMETERS = new ArrayList<>();
-  private final Set<String> PARAMETERS_LIST = new HashSet<>();
+  private final Map<String, Integer> SLOTS = new HashMap<>();
+  private final List<String> SLOT_NAMES = new ArrayList<>();
+
+  // Values indexed by slot. A parameter frame of 0 means the parameter is not bound
+  private double[] variableValues = new double[INITIAL_CAPACITY];
+  private boolean[] variableDefined = new boolean[INITIAL_CAPACITY];
+  private double[] parameterValues = new double[INITIAL_CAPACITY];
+  private int[] parameterFrames = new int[INITIAL_CAPACITY];
+
+  // Stack of parameter bindings that were replaced, given back when their frame is removed
+  private int[] savedSlots = new int[INITIAL_CAPACITY];
+  private double[] savedValues = new double[INITIAL_CAPACITY];
+  private int[] savedFrames = new int[INITIAL_CAPACITY];
+  private int savedSize = 0;
+  private int[] frameStarts = new int[INITIAL_CAPACITY];
+  private int frameDepth = 0;
+  private int callDepth = 0;
 
   public UserDefinedInformation(BackEndExternalAPI modelController){
     MODEL_CONTROLLER = modelController;
   }
 
+  // Copies every command, variable and parameter that is bound, for commands running on another
+  // thread. Nothing set in the copy is seen by the original
+  private UserDefinedInformation(UserDefinedInformation original,
+      BackEndExternalAPI modelController) {
+    MODEL_CONTROLLER = modelController;
+    copyFrom(original);
+  }
+
+  /**
+   * Replaces everything in this copy with what is in the information it was copied from, so that
+   * commands already compiled against the copy can run again with values that are up to date
+   *
+   * @param original The information this one was forked from
+   */
+  public void copyFrom(UserDefinedInformation original) {
+    COMMANDS.clear();
+    COMMANDS.putAll(original.COMMANDS);
+    SLOTS.clear();
+    SLOTS.putAll(original.SLOTS);
+    SLOT_NAMES.clear();
+    SLOT_NAMES.addAll(original.SLOT_NAMES);
+    variableValues = original.variableValues.clone();
+    variableDefined = original.variableDefined.clone();
+    parameterValues = original.parameterValues.clone();
+    parameterFrames = original.parameterFrames.clone();
+    savedSlots = original.savedSlots.clone();
+    savedValues = original.savedValues.clone();
+    savedFrames = original.savedFrames.clone();
+    savedSize = original.savedSize;
+    frameStarts = original.frameStarts.clone();
+    frameDepth = original.frameDepth;
+    callDepth = original.callDepth;
+  }
+
+  /**
+   * Makes a copy of this information for commands that run on another thread, so that the loops
+   * they run can set parameters without changing them here
+   *
+   * @param modelController The model controller the copy passes changes to
+   * @return The copy
+   */
+  public UserDefinedInformation fork(BackEndExternalAPI modelController) {
+    return new UserDefinedInformation(this, modelController);
+  }
+
   /**
    * Gets an unmodifiable copy of the map of commands
    *
@@ -71,13 +138,56 @@ public class UserDefinedInformation {
   }
 
 
+  /**
+   * Gets the slot that holds the variable or parameter with the given name. Each name is given a
+   * slot the first time it is seen, so commands can look up the slot once when they are compiled
+   * and then read and write values without using the name again
+   *
+   * @param name The name of the variable or parameter
+   * @return The slot index for the name
+   */
+  public int getSlot(String name) {
+    Integer slot = SLOTS.get(name);
+    if (slot == null) {
+      slot = SLOT_NAMES.size();
+      SLOTS.put(name, slot);
+      SLOT_NAMES.add(name);
+      growSlots(SLOT_NAMES.size());
+    }
+    return slot;
+  }
+
+  /**
+   * Gets the value in a slot. A parameter that is currently bound hides a variable with the same
+   * name
+   *
+   * @param slot The slot of the variable or parameter
+   * @return The value
+   * @throws ErrorHandler If there is no parameter or variable in this slot, this error is thrown
+   */
+  public double getValue(int slot) throws ErrorHandler {
+    if (parameterFrames[slot] != 0) {
+      return parameterValues[slot];
+    }
+    if (variableDefined[slot]) {
+      return variableValues[slot];
+    }
+    throw new ErrorHandler("InvalidVariableName");
+  }
+
   /**
    * Gets an unmodifiable copy of the variable map
    *
    * @return The variable map
    */
   public Map<String, Double> getVariableMap() {
-    return Collections.unmodifiableMap(VARIABLES);
+    Map<String, Double> variables = new HashMap<>();
+    for (int slot = 0; slot < SLOT_NAMES.size(); slot++) {
+      if (variableDefined[slot]) {
+        variables.put(SLOT_NAMES.get(slot), variableValues[slot]);
+      }
+    }
+    return Collections.unmodifiableMap(variables);
   }
 
   /**
@@ -88,10 +198,10 @@ public class UserDefinedInformation {
    * @throws ErrorHandler If the variable doesn't exist, this error is thrown
    */
   public double getVariable(String variableName) throws ErrorHandler {
-    if (VARIABLES.get(variableName) == null) {
+    if (!hasVariable(variableName)) {
       throw new ErrorHandler("InvalidVariableName");
     }
-    return VARIABLES.get(variableName);
+    return variableValues[SLOTS.get(variableName)];
   }
 
   /**
@@ -100,8 +210,19 @@ public class UserDefinedInformation {
    * @param name  The variable name
    * @param value The value of the variable
    */
-  public void addVariable(String name, Double value) {
-    VARIABLES.put(name, value);
+  public void addVariable(String name, double value) {
+    setVariable(getSlot(name), value);
+  }
+
+  /**
+   * Sets the variable in a slot
+   *
+   * @param slot  The slot of the variable
+   * @param value The value of the variable
+   */
+  public void setVariable(int slot, double value) {
+    variableValues[slot] = value;
+    variableDefined[slot] = true;
   }
 
   /**
@@ -110,77 +231,107 @@ public class UserDefinedInformation {
    * @param name The variable name
    */
   public boolean hasVariable(String name) {
-    return VARIABLES.containsKey(name);
+    Integer slot = SLOTS.get(name);
+    return slot != null && variableDefined[slot];
   }
 
 
   /**
-   * Gets the map of parameters. Each successive map is one deeper in the nested structure
+   * Records that a user defined command has started running. Every call that is running counts
+   * towards the maximum call depth
    *
-   * @return The list of maps
+   * @throws ErrorHandler If too many calls are already running, this error is thrown
    */
-  public List<Map<String, Double>> getParameterMap() {
-    List<Map<String, Double>> unmodifiableParameterCopy = PARAMETERS;
-    for (Map paramMap : PARAMETERS) {
-      Map<String, Double> unmodifiableMap = Collections.unmodifiableMap(paramMap);
-      unmodifiableParameterCopy.add(unmodifiableMap);
+  public void enterCommandCall() throws ErrorHandler {
+    if (callDepth >= MAX_CALL_DEPTH) {
+      throw new ErrorHandler("RecursionTooDeep");
     }
-    return Collections.unmodifiableList(unmodifiableParameterCopy);
+    callDepth++;
   }
 
   /**
-   * Adds a parameter map to the list of parameter maps. This will be removed when a loop/command is
-   * done and the parameters are no longer needed
+   * Records that a user defined command is done running
    */
-  public void addParameterMap() {
-    PARAMETERS.add(new HashMap<String, Double>());
+  public void exitCommandCall() {
+    callDepth--;
   }
 
   /**
-   * Removes a parameter map from the list of parameter maps. This is done when a loop/command is
-   * done and the parameters are no longer needed
+   * Removes every frame of parameters and forgets about any running calls. Used after an error,
+   * when the commands that were running never got to clean up after themselves
    */
-  public void removeParameterMap() {
-    PARAMETERS.remove(PARAMETERS.size() - 1);
+  public void resetScopes() {
+    while (frameDepth > 0) {
+      removeParameterMap();
+    }
+    callDepth = 0;
   }
 
   /**
-   * Gets a parameter with a specific name from the list holding the maps
-   *
-   * @param parameterName The name of the parameter
-   * @return The parameter value
-   * @throws ErrorHandler If the parameter doesn't exist, this error is thrown
-   */
-  public Double getParameter(String parameterName) {
-    for (int i = PARAMETERS.size() - 1; i >= 0; i--) {
-      if (PARAMETERS.get(i).get(parameterName) != null) {
-        return PARAMETERS.get(i).get(parameterName);
-      }
+   * Starts a new frame of parameters. The parameters set in this frame will be removed when a
+   * loop/command is done and the parameters are no longer needed
+   */
+  public void addParameterMap() {
+    if (frameDepth == frameStarts.length) {
+      frameStarts = Arrays.copyOf(frameStarts, frameDepth * 2);
     }
-    return null;
+    frameStarts[frameDepth] = savedSize;
+    frameDepth++;
   }
 
   /**
-   * Adds a parameter to the last map in the parameter list, because the last map is the most inner
-   * map
-   *
-   * @param name  The parameter name
-   * @param value The value of the parameter
+   * Removes the newest frame of parameters, giving every parameter set in it back the value it
+   * had before the frame was added. This is done when a loop/command is done and the parameters
+   * are no longer needed
    */
-  public void addParameter(String name, Double value) {
-    PARAMETERS_LIST.add(name);
-    PARAMETERS.get(PARAMETERS.size() - 1).put(name, value);
+  public void removeParameterMap() {
+    frameDepth--;
+    while (savedSize > frameStarts[frameDepth]) {
+      savedSize--;
+      int slot = savedSlots[savedSize];
+      parameterValues[slot] = savedValues[savedSize];
+      parameterFrames[slot] = savedFrames[savedSize];
+    }
   }
 
   /**
-   * Checks if a parameter is in the map
+   * Sets a parameter in the newest frame. The first time a parameter is set in a frame, its
+   * old value is saved so it can be given back when the frame is removed
    *
-   * @param name The parameter name
+   * @param slot  The slot of the parameter
+   * @param value The value of the parameter
    */
-  public boolean hasParameter(String name) {
-    return PARAMETERS_LIST.contains(name);
+  public void setParameter(int slot, double value) {
+    if (parameterFrames[slot] != frameDepth) {
+      saveParameter(slot);
+      parameterFrames[slot] = frameDepth;
+    }
+    parameterValues[slot] = value;
   }
 
+  // Pushes the current binding of a parameter so it can be given back later
+  private void saveParameter(int slot) {
+    if (savedSize == savedSlots.length) {
+      savedSlots = Arrays.copyOf(savedSlots, savedSize * 2);
+      savedValues = Arrays.copyOf(savedValues, savedSize * 2);
+      savedFrames = Arrays.copyOf(savedFrames, savedSize * 2);
+    }
+    savedSlots[savedSize] = slot;
+    savedValues[savedSize] = parameterValues[slot];
+    savedFrames[savedSize] = parameterFrames[slot];
+    savedSize++;
+  }
 
+  // Makes every array indexed by slot big enough to hold the given number of slots
+  private void growSlots(int slotCount) {
+    if (slotCount <= variableValues.length) {
+      return;
+    }
+    int capacity = Math.max(slotCount, variableValues.length * 2);
+    variableValues = Arrays.copyOf(variableValues, capacity);
+    variableDefined = Arrays.copyOf(variableDefined, capacity);
+    parameterValues = Arrays.copyOf(parameterValues, capacity);
+    parameterFrames = Arrays.copyOf(parameterFrames, capacity);
+  }
 
 }
@@ -52,22 +52,23 @@ public class CommandBlockParser extends Parser {
     int commandCount = 0;
     int blockSize = 0;
     boolean inUserDefCommand = false;
-    for (int ind = 0; ind < tokens.size(); ind++) {
-      Token curr = tokens.get(ind);
+    List<Token> kept = new ArrayList<>(tokens.size());
+    for (Token curr : tokens) {
+      int ind = kept.size();
       if (isUserDefCommand(curr)) {
         inUserDefCommand = true;
         userDefInd = ind;
       }
       if (curr instanceof ListEndToken) {
-        tokens.remove(ind);
         ind--;
         if(inUserDefCommand && isEndVarList(ind, userDefInd, blockSize)) {
-          completedUserDefVarList(blockSize, userDefInd);
+          completedUserDefVarList(kept, blockSize, userDefInd);
           inUserDefCommand = false;
         }
         blockSize = completeListParamCount(commandBlocks, parameters, blockSize);
         continue;
       }
+      kept.add(curr);
       if(!commandBlocks.isEmpty()) {
         blockSize = commandBlocks.peek().incrementParamCount(blockSize, curr);
       }
@@ -77,6 +78,8 @@ public class CommandBlockParser extends Parser {
       }
     }
     if (!commandBlocks.isEmpty()) { throw new ErrorHandler("WrongParamNum"); }
+    tokens.clear();
+    tokens.addAll(kept);
   }
 
   private boolean isUserDefCommand(Token token) {
@@ -87,8 +90,8 @@ public class CommandBlockParser extends Parser {
     return currInd == userDefInd + blockSize + USER_DEF_VARLIST_INDEX;
   }
 
-  private void completedUserDefVarList(int blockSize, int userDefInd) {
-    commandParser.addSingleParamCount(tokens.get(userDefInd+1).getValue(), makeStringParam(blockSize));
+  private void completedUserDefVarList(List<Token> kept, int blockSize, int userDefInd) {
+    commandParser.addSingleParamCount(kept.get(userDefInd+1).getValue(), makeStringParam(blockSize));
   }
 
   private int completeListParamCount(Deque<Token> commandBlocks, Deque<Integer> parameters, int blockSize) {
@@ -2,6 +2,7 @@ package slogo.model.parse;
 
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +23,8 @@ public class CommandParser extends Parser {
   public List<String> preOrderResults = new ArrayList<>();
   private TreeNode commandTree;
   private List<Token> cleanCommands;
-  private BackEndExternalAPI modelController;
+  private Map<String, Integer> userCommands;
+  private List<Integer> statementStarts = new ArrayList<>();
   private InputCleaner inputCleaner;
   private TokensParser tokenMaker;
   private CommandBlockParser commandBlockParser;
@@ -38,10 +40,26 @@ public class CommandParser extends Parser {
    * @param modelController the model controller that is running for the current input
    */
   public CommandParser(String rawInput, String language, BackEndExternalAPI modelController) {
-    this.modelController = modelController;
-    inputCleaner = new InputCleaner(rawInput, language, modelController);
-    tokenMaker = new TokensParser(inputCleaner.parseResults());
+    this(rawInput, language, getUserCommandArities(modelController));
+  }
+
+  /**
+   * constructs the command parser for input that may follow other input, so the user defined commands
+   * it knows about are given instead of read from the model controller
+   *
+   * @param rawInput direct input taken from the GUI, or part of it
+   * @param language the language selected by the user for commands
+   * @param userCommands the names of the user defined commands made before this input and the number
+   *                     of parameters each takes
+   */
+  public CommandParser(CharSequence rawInput, String language, Map<String, Integer> userCommands) {
+    this.userCommands = userCommands;
+    inputCleaner = new InputCleaner(rawInput, language, userCommands.keySet());
+    tokenMaker = new TokensParser(inputCleaner.parseResults(), inputCleaner.getLexemes());
     cleanCommands = tokenMaker.tokenString();
+    for (int i = 0; i < cleanCommands.size(); i++) {
+      cleanCommands.get(i).setSourceIndex(i);
+    }
     commandBlockParser = new CommandBlockParser(cleanCommands, this);
     commandBlockParser.commandBlockParams();
     commandTree = new TreeNode(null, null);
@@ -58,10 +76,43 @@ public class CommandParser extends Parser {
     commandParam.put(command, paramCount);
   }
 
-  private void addUserDefParamCounts() {
+  /**
+   * gives the number of parameters of each user defined command the model controller knows about
+   *
+   * @param modelController the model controller that is running for the current input
+   * @return map of user defined command names to their parameter counts
+   */
+  public static Map<String, Integer> getUserCommandArities(BackEndExternalAPI modelController) {
+    Map<String, Integer> arities = new HashMap<>();
     Map<String, UserDefinedCommand> userDefCommands = modelController.getUserDefinedCommands();
     for (String key : userDefCommands.keySet()) {
-      int paramCounts = userDefCommands.get(key).getParamCount();
+      arities.put(key, userDefCommands.get(key).getParamCount());
+    }
+    return arities;
+  }
+
+  /**
+   * gives the words of the input, in the order the tokens were made from them
+   *
+   * @return the words of input with their types and offsets
+   */
+  public List<Lexeme> getLexemes() {
+    return inputCleaner.getLexemes();
+  }
+
+  /**
+   * gives the index of the first word of each top level command in the tree made by makeTree, so
+   * the part of the input each command came from can be found
+   *
+   * @return word index of the start of each child of the root, in order
+   */
+  public List<Integer> getStatementStarts() {
+    return statementStarts;
+  }
+
+  private void addUserDefParamCounts() {
+    for (String key : userCommands.keySet()) {
+      int paramCounts = userCommands.get(key);
       List<String> paramString = new ArrayList<>();
       for (int i = 0; i < paramCounts; i++) {
         paramString.add("NUM");
@@ -78,7 +129,9 @@ public class CommandParser extends Parser {
   public TreeNode makeTree() {
     Deque<Token> commandQueue = new LinkedList<>(cleanCommands);
     while (!commandQueue.isEmpty()) {
-      String command = commandQueue.removeFirst().getValue();
+      Token first = commandQueue.removeFirst();
+      statementStarts.add(first.getSourceIndex());
+      String command = first.getValue();
       TreeNode child = new TreeNode(command, null);
       child = checkCommandBlock(child);
       commandTree.addChild(child);
@@ -0,0 +1,198 @@
+package slogo.model.parse;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import slogo.model.SLogoCommandExecutor;
+
+/**
+ * Holds everything the parsers read out of properties files, already compiled: the syntax regex
+ * patterns, the expected parameters of each command, and the command patterns of a language. A
+ * grammar never changes once it is made, so one is made per language and shared by every parser
+ * instead of reloading the files and recompiling the patterns for each input. Every plain spelling
+ * of a command (each alternative between the |'s of a pattern) is also put in a hash index, so a
+ * word is translated with one map lookup. Patterns that aren't plain words are still matched as
+ * regex
+ *
+ * @author jincho
+ */
+public class Grammar {
+
+  private static final String MAKE_USER_INSTRUCTION = "MakeUserInstruction";
+  private static final String ALTERNATIVE = "\\|";
+  private static final String REGEX_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+  private static final Map<String, Pattern> SYNTAX = makeSyntax();
+  private static final Map<String, List<String>> COMMAND_PARAMS = makeCommandParams();
+  private static final Map<String, Grammar> LANGUAGES = new ConcurrentHashMap<>();
+
+  private final List<Entry<String, Pattern>> languagePatterns;
+  private final Pattern makeUserDefPattern;
+  private final Map<String, Integer> spellingIndex = new HashMap<>();
+  private final List<Integer> regexOnlyPatterns = new ArrayList<>();
+
+  /**
+   * Gets the grammar for a language, making it the first time the language is used
+   *
+   * @param language the language selected by the user for commands
+   * @return the shared grammar for the language
+   */
+  public static Grammar forLanguage(String language) {
+    return LANGUAGES.computeIfAbsent(language, Grammar::new);
+  }
+
+  /**
+   * gives the map of syntax regex patterns particular to the SLogo language. these are the same
+   * for every language
+   *
+   * @return unmodifiable map of regex types to their patterns
+   */
+  public static Map<String, Pattern> getSyntax() {
+    return SYNTAX;
+  }
+
+  /**
+   * gives the map of all basic commands and their expected token inputs as parameters
+   *
+   * @return unmodifiable map of command names to their expected parameters
+   */
+  public static Map<String, List<String>> getCommandParams() {
+    return COMMAND_PARAMS;
+  }
+
+  private Grammar(String language) {
+    List<Entry<String, Pattern>> patterns = new ArrayList<>();
+    Pattern makeUserDef = null;
+    ResourceBundle resources = ResourceBundle
+        .getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + language);
+    for (String key : Collections.list(resources.getKeys())) {
+      Pattern regexPattern = Pattern.compile(resources.getString(key), Pattern.CASE_INSENSITIVE);
+      if (key.equals(MAKE_USER_INSTRUCTION)) { makeUserDef = regexPattern; }
+      patterns.add(new SimpleEntry<>(key, regexPattern));
+    }
+    languagePatterns = Collections.unmodifiableList(patterns);
+    makeUserDefPattern = makeUserDef;
+    for (int i = 0; i < patterns.size(); i++) {
+      indexSpellings(i, patterns.get(i).getValue().pattern());
+    }
+  }
+
+  /**
+   * translates a word into the command it is a spelling of. gives the same result as trying each
+   * language pattern in order and taking the first one that matches
+   *
+   * @param word a single word of user input
+   * @return the command name, or null if the word is not a command of this language
+   */
+  public String translate(String word) {
+    Integer indexed = spellingIndex.get(foldCase(word));
+    int firstMatch = indexed == null ? languagePatterns.size() : indexed;
+    for (int position : regexOnlyPatterns) {
+      if (position >= firstMatch) { break; }
+      if (languagePatterns.get(position).getValue().matcher(word).matches()) {
+        return languagePatterns.get(position).getKey();
+      }
+    }
+    return indexed == null ? null : languagePatterns.get(indexed).getKey();
+  }
+
+  // puts every plain spelling of the pattern at this position into the index. if any part of the
+  // pattern is real regex, the whole pattern is left to be matched as regex instead
+  private void indexSpellings(int position, String regex) {
+    List<String> spellings = new ArrayList<>();
+    for (String alternative : regex.split(ALTERNATIVE, -1)) {
+      String spelling = unescape(alternative);
+      if (spelling == null || spelling.isEmpty()) {
+        regexOnlyPatterns.add(position);
+        return;
+      }
+      spellings.add(foldCase(spelling));
+    }
+    for (String spelling : spellings) {
+      spellingIndex.putIfAbsent(spelling, position);
+    }
+  }
+
+  // turns an escaped regex like "less\\?" into the literal text it matches, or null if it uses
+  // any regex feature other than escaping a special character
+  private String unescape(String alternative) {
+    StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < alternative.length(); i++) {
+      char c = alternative.charAt(i);
+      if (c == '\\') {
+        i++;
+        if (i == alternative.length()
+            || REGEX_SPECIAL_CHARACTERS.indexOf(alternative.charAt(i)) == -1) {
+          return null;
+        }
+        literal.append(alternative.charAt(i));
+      } else if (REGEX_SPECIAL_CHARACTERS.indexOf(c) != -1) {
+        return null;
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.toString();
+  }
+
+  // lower cases only A to Z, the same letters Pattern.CASE_INSENSITIVE ignores the case of
+  private static String foldCase(String word) {
+    StringBuilder folded = null;
+    for (int i = 0; i < word.length(); i++) {
+      char c = word.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        if (folded == null) { folded = new StringBuilder(word); }
+        folded.setCharAt(i, (char) (c + ('a' - 'A')));
+      }
+    }
+    return folded == null ? word : folded.toString();
+  }
+
+  /**
+   * gives the command patterns of this language, paired with the command they translate to
+   *
+   * @return unmodifiable list of command names and their patterns, in properties file order
+   */
+  public List<Entry<String, Pattern>> getLanguagePatterns() {
+    return languagePatterns;
+  }
+
+  /**
+   * gives the pattern of this language that starts a user defined command
+   *
+   * @return the MakeUserInstruction pattern
+   */
+  public Pattern getMakeUserDefPattern() {
+    return makeUserDefPattern;
+  }
+
+  private static Map<String, Pattern> makeSyntax() {
+    Map<String, Pattern> regexMap = new HashMap<>();
+    ResourceBundle resources = ResourceBundle
+        .getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + SLogoCommandExecutor.REGEX_SYNTAX);
+    for (String key : Collections.list(resources.getKeys())) {
+      String regex = resources.getString(key);
+      regexMap.put(key, Pattern.compile(regex, Pattern.CASE_INSENSITIVE));
+    }
+    return Collections.unmodifiableMap(regexMap);
+  }
+
+  private static Map<String, List<String>> makeCommandParams() {
+    Map<String, List<String>> paramMap = new HashMap<>();
+    ResourceBundle resources = ResourceBundle
+        .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.COMMAND_PARAMS);
+    for (String key : Collections.list(resources.getKeys())) {
+      List<String> params = new ArrayList<>(Arrays.asList(resources.getString(key).split(" ")));
+      params.removeIf(command -> command.equals(""));
+      paramMap.put(key, Collections.unmodifiableList(params));
+    }
+    return Collections.unmodifiableMap(paramMap);
+  }
+}
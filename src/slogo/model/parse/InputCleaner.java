@@ -1,30 +1,30 @@
 package slogo.model.parse;
 
-import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.regex.Pattern;
 import slogo.ErrorHandler;
 import slogo.controller.BackEndExternalAPI;
-import slogo.model.SLogoCommandExecutor;
 
 /**
  * Cleans the raw string input from the user into a list of strings that the CommandParser can use
- * will recognize as commands and command parameters removes comments
+ * will recognize as commands and command parameters removes comments. the input is read once by a
+ * Lexer, and each word is translated as soon as it is read
  *
  * @author jincho
  */
 public class InputCleaner extends Parser{
 
-  private static final String WHITESPACE = "\\s+";
-  private List<Entry<String, Pattern>> languagePatterns;
-  private List<String> userDefinedCommands;
+  private static final String COMMAND = "Command";
+  private Grammar grammar;
+  private Set<String> userDefinedCommands;
   private Pattern makeUserDef;
 
-  private String userInput;
+  private CharSequence userInput;
+  private List<Lexeme> words = new ArrayList<>();
 
   /**
    * create instance of InputCleaner and initializes lists for "translating" the string into strings
@@ -32,21 +32,33 @@ public class InputCleaner extends Parser{
    *
    * @param userInput       raw string of commands
    */
-  public InputCleaner(String userInput, String language, BackEndExternalAPI modelController) {
-    languagePatterns = new ArrayList<>();
-    addLangPatterns(language);
+  public InputCleaner(CharSequence userInput, String language, BackEndExternalAPI modelController) {
+    this(userInput, language, modelController.getUserDefinedCommands().keySet());
+  }
+
+  /**
+   * create instance of InputCleaner that knows the given user defined command names, which are left
+   * as they are instead of being translated
+   *
+   * @param userInput          raw string of commands
+   * @param language           the language selected by the user for commands
+   * @param userCommandNames   names of the user defined commands made before this input
+   */
+  public InputCleaner(CharSequence userInput, String language, Collection<String> userCommandNames) {
+    grammar = Grammar.forLanguage(language);
+    makeUserDef = grammar.getMakeUserDefPattern();
     this.userInput = userInput;
-    userDefinedCommands = new ArrayList<>(modelController.getUserDefinedCommands().keySet());
+    userDefinedCommands = new HashSet<>(userCommandNames);
   }
 
-  private void addLangPatterns(String syntax) {
-    ResourceBundle resources = ResourceBundle.getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + syntax);
-    for (String key : Collections.list(resources.getKeys())) {
-      String regex = resources.getString(key);
-      Pattern regexPattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-      if(key.equals("MakeUserInstruction")) { makeUserDef = regexPattern; }
-      languagePatterns.add(new SimpleEntry<>(key, regexPattern));
-    }
+  /**
+   * gives the words read by the last call to parseResults, in the same order as the strings it
+   * returned
+   *
+   * @return the words of input with their types and offsets
+   */
+  public List<Lexeme> getLexemes() {
+    return words;
   }
 
   /**
@@ -56,57 +68,34 @@ public class InputCleaner extends Parser{
    */
   @Override
   public List<String> parseResults() {
-    String noComments = removeComments();
-    List<String> translated = translateCommand(noComments);
-    translated.removeIf(command -> command.equals(""));
-    return translated;
-  }
-
-  private String removeComments() {
-    StringBuffer removedComments = new StringBuffer(userInput);
-    while (removedComments.indexOf("#") != -1) {
-      int indBeforeComment = removedComments.indexOf("#");
-      int indAfterComment = removedComments.indexOf("\n", indBeforeComment) + 1;
-      removedComments.replace(indBeforeComment, indAfterComment, " ");
-    }
-    return removedComments.toString();
-  }
-
-  private List<String> translateCommand(String input) {
     List<String> translated = new ArrayList<>();
-    String[] beforeTranslation = input.split(WHITESPACE);
-    for (int i = 0; i<beforeTranslation.length; i++) {
-      String s = beforeTranslation[i];
-      if (match(s, syntaxMap.get("Command")) && !userDefCommandName(i, beforeTranslation) ) {
+    words = new ArrayList<>();
+    Lexer lexer = new Lexer(userInput);
+    String previous = null;
+    for (Lexeme word = lexer.next(); word != null; word = lexer.next()) {
+      words.add(word);
+      String s = word.getText();
+      if (COMMAND.equals(word.getType()) && !userDefCommandName(s, previous)) {
         translated.add(getCommandKey(s));
       } else {
         translated.add(s);
       }
+      previous = s;
     }
     return translated;
   }
 
-  private boolean userDefCommandName(int id, String[] beforeTranslation) {
-    String curr = beforeTranslation[id];
-    boolean newlyDefined = false;
-    if(id != 0) {
-      newlyDefined = match(beforeTranslation[id-1], makeUserDef);
-      if(newlyDefined) { userDefinedCommands.add(curr); }
-    }
-    boolean alreadyDefined = userDefinedCommands.contains(curr);
-    return alreadyDefined || newlyDefined;
+  private boolean userDefCommandName(String curr, String previous) {
+    boolean newlyDefined = previous != null && match(previous, makeUserDef);
+    if (newlyDefined) { userDefinedCommands.add(curr); }
+    return newlyDefined || userDefinedCommands.contains(curr);
   }
 
   private String getCommandKey(String text) {
-    for (Entry<String, Pattern> e : languagePatterns) {
-      try {
-        if (match(text, e.getValue())) {
-          return e.getKey();
-        }
-      } catch (Exception ex) {
-        throw new ErrorHandler("InvalidCommandName");
-      }
+    String commandKey = grammar.translate(text);
+    if (commandKey == null) {
+      throw new ErrorHandler("InvalidCommandName");
     }
-    throw new ErrorHandler("InvalidCommandName");
+    return commandKey;
   }
 }
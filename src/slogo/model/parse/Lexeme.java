@@ -0,0 +1,51 @@
+package slogo.model.parse;
+
+/**
+ * A single word of user input found by the Lexer. It keeps the syntax type the word matched and
+ * where the word is in the original input, so later passes don't have to match the word against
+ * the syntax patterns again
+ *
+ * @author jincho
+ */
+public class Lexeme {
+
+  private final String type;
+  private final String text;
+  private final int start;
+  private final int end;
+
+  /**
+   * creates a lexeme for a word of input
+   *
+   * @param type  the Syntax key the word matched (Command, Constant, ...) or null if it matched none
+   * @param text  the word as it was typed
+   * @param start index of the first character of the word in the input
+   * @param end   index just past the last character of the word in the input
+   */
+  public Lexeme(String type, String text, int start, int end) {
+    this.type = type;
+    this.text = text;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * @return the Syntax key the word matched, or null if it matched none
+   */
+  public String getType() { return type; }
+
+  /**
+   * @return the word as it was typed
+   */
+  public String getText() { return text; }
+
+  /**
+   * @return index of the first character of the word in the input
+   */
+  public int getStart() { return start; }
+
+  /**
+   * @return index just past the last character of the word in the input
+   */
+  public int getEnd() { return end; }
+}
@@ -0,0 +1,105 @@
+package slogo.model.parse;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+/**
+ * Reads user input one word at a time in a single pass. Whitespace separates words and a # starts
+ * a comment that runs to the end of the line, the same as removing the comments and splitting on
+ * whitespace, but without copying the input for each comment or making an array of every word up
+ * front. Each word is given its syntax type as it is read
+ *
+ * @author jincho
+ */
+public class Lexer {
+
+  static final char COMMENT_START = '#';
+  static final char LINE_END = '\n';
+  private static final String COMMENT = "Comment";
+
+  private final CharSequence input;
+  private final Map<String, Pattern> syntax;
+  private int position;
+
+  /**
+   * creates a lexer that starts reading at the beginning of the input
+   *
+   * @param input raw text of commands, which may contain comments
+   */
+  public Lexer(CharSequence input) {
+    this(input, 0);
+  }
+
+  /**
+   * creates a lexer that starts reading partway through the input
+   *
+   * @param input raw text of commands, which may contain comments
+   * @param start index of the first character to read, which must not be inside a comment
+   */
+  public Lexer(CharSequence input, int start) {
+    this.input = input;
+    syntax = Grammar.getSyntax();
+    position = start;
+  }
+
+  /**
+   * skips any whitespace and comments at the current position without reading the word after them
+   *
+   * @return index where the next word starts, or the length of the input if there is none
+   */
+  public int nextStart() {
+    skipBlanks();
+    return position;
+  }
+
+  /**
+   * reads the next word of the input, skipping any whitespace and comments in front of it
+   *
+   * @return the next word, or null if the rest of the input is only whitespace and comments
+   */
+  public Lexeme next() {
+    skipBlanks();
+    if (position == input.length()) { return null; }
+    int start = position;
+    while (position < input.length() && !isBlank(input.charAt(position))
+        && input.charAt(position) != COMMENT_START) {
+      position++;
+    }
+    String text = input.subSequence(start, position).toString();
+    return new Lexeme(typeOf(text), text, start, position);
+  }
+
+  private void skipBlanks() {
+    while (position < input.length()) {
+      char c = input.charAt(position);
+      if (c == COMMENT_START) {
+        skipComment();
+      } else if (isBlank(c)) {
+        position++;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private void skipComment() {
+    while (position < input.length() && input.charAt(position) != LINE_END) {
+      position++;
+    }
+  }
+
+  // the characters \s matches, since the input used to be split on \s+
+  static boolean isBlank(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private String typeOf(String text) {
+    for (Entry<String, Pattern> e : syntax.entrySet()) {
+      if (!e.getKey().equals(COMMENT) && e.getValue().matcher(text).matches()) {
+        return e.getKey();
+      }
+    }
+    return null;
+  }
+}
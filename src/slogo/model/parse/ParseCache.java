@@ -0,0 +1,208 @@
+package slogo.model.parse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import slogo.controller.BackEndExternalAPI;
+import slogo.model.tree.TreeNode;
+
+/**
+ * Remembers the top level commands of the last input that was parsed, with the text each one was
+ * parsed from. When the same program is submitted again after an edit, the commands at the start
+ * and at the end whose text didn't change keep their trees, and only the part of the input between
+ * them is parsed again. A kept command is only reused if every command name in it still means the
+ * same thing, so redefining a user command with a different number of parameters parses the
+ * commands that call it again
+ *
+ * @author jincho
+ */
+public class ParseCache {
+
+  private static final String MAKE_USER_INSTRUCTION = "MakeUserInstruction";
+  private static final String COMMAND = "Command";
+  private static final int NOT_USER_COMMAND = -1;
+
+  private List<Statement> statements = new ArrayList<>();
+  private String language;
+
+  /**
+   * makes the tree for the input, reusing the trees of top level commands that are the same as
+   * the last input
+   *
+   * @param input           raw string of commands
+   * @param language        the language selected by the user for commands
+   * @param modelController the model controller that is running for the current input
+   * @return root node of the command tree, with one child per top level command
+   */
+  public TreeNode parse(String input, String language, BackEndExternalAPI modelController) {
+    if (!language.equals(this.language)) {
+      statements = new ArrayList<>();
+      this.language = language;
+    }
+    Map<String, Integer> context = CommandParser.getUserCommandArities(modelController);
+    List<Statement> parsed = new ArrayList<>();
+    int position = 0;
+    while (parsed.size() < statements.size()) {
+      Statement next = statements.get(parsed.size());
+      int start = new Lexer(input, position).nextStart();
+      if (!next.isAt(input, start) || !next.isValidIn(context)) { break; }
+      parsed.add(next);
+      define(context, next);
+      position = start + next.text.length();
+    }
+    int end = input.length();
+    List<Integer> suffixStarts = new ArrayList<>();
+    for (int i = statements.size() - 1; i >= parsed.size(); i--) {
+      Statement previous = statements.get(i);
+      int start = skipBackward(input, end, position) - previous.text.length();
+      if (start < position || !previous.isAt(input, start) || !startsWord(input, start, position)) {
+        break;
+      }
+      suffixStarts.add(0, start);
+      end = start;
+    }
+    parseChanged(input, position, end, context, parsed, suffixStarts);
+    statements = parsed;
+    TreeNode root = new TreeNode(null, null);
+    for (Statement statement : parsed) {
+      root.addChild(statement.tree);
+    }
+    return root;
+  }
+
+  // parses the input between the unchanged commands at the start and the unchanged commands at the
+  // end. if that part can't be parsed on its own, an edit made it need words from the commands
+  // after it, so everything after the start is parsed again
+  private void parseChanged(String input, int start, int end, Map<String, Integer> context,
+      List<Statement> parsed, List<Integer> suffixStarts) {
+    List<Statement> suffix = statements.subList(statements.size() - suffixStarts.size(),
+        statements.size());
+    int prefixSize = parsed.size();
+    Map<String, Integer> prefixContext = new HashMap<>(context);
+    try {
+      parseRegion(input, start, end, context, parsed);
+    } catch (RuntimeException e) {
+      if (suffix.isEmpty()) { throw e; }
+      parsed.subList(prefixSize, parsed.size()).clear();
+      parseRegion(input, start, input.length(), prefixContext, parsed);
+      return;
+    }
+    for (int i = 0; i < suffix.size(); i++) {
+      if (!suffix.get(i).isValidIn(context)) {
+        parseRegion(input, suffixStarts.get(i), input.length(), context, parsed);
+        return;
+      }
+      parsed.add(suffix.get(i));
+      define(context, suffix.get(i));
+    }
+  }
+
+  private void parseRegion(String input, int start, int end, Map<String, Integer> context,
+      List<Statement> parsed) {
+    String region = input.substring(start, end);
+    CommandParser parser = new CommandParser(region, language, new HashMap<>(context));
+    List<TreeNode> trees = parser.makeTree().getChildren();
+    List<Lexeme> words = parser.getLexemes();
+    List<Integer> starts = parser.getStatementStarts();
+    for (int i = 0; i < trees.size(); i++) {
+      int first = starts.get(i);
+      int last = (i + 1 < starts.size() ? starts.get(i + 1) : words.size()) - 1;
+      String text = region.substring(words.get(first).getStart(), words.get(last).getEnd());
+      Statement statement = new Statement(text, trees.get(i));
+      statement.findDependencies(words.subList(first, last + 1), context);
+      parsed.add(statement);
+      define(context, statement);
+    }
+  }
+
+  // user commands the model controller already knows keep the parameter count it has for them,
+  // the same as when the whole input is parsed at once
+  private void define(Map<String, Integer> context, Statement statement) {
+    for (Map.Entry<String, Integer> e : statement.definitions.entrySet()) {
+      context.putIfAbsent(e.getKey(), e.getValue());
+    }
+  }
+
+  // moves back from end over whitespace and comments, but not before limit
+  private int skipBackward(String input, int end, int limit) {
+    while (end > limit) {
+      int lineStart = end;
+      while (lineStart > limit && input.charAt(lineStart - 1) != Lexer.LINE_END) { lineStart--; }
+      for (int i = lineStart; i < end; i++) {
+        if (input.charAt(i) == Lexer.COMMENT_START) { end = i; }
+      }
+      while (end > lineStart && Lexer.isBlank(input.charAt(end - 1))) { end--; }
+      if (end > lineStart || end == limit) { return end; }
+      end--;
+    }
+    return end;
+  }
+
+  // a word starts here only if it comes after whitespace and isn't part of a comment
+  private boolean startsWord(String input, int start, int limit) {
+    if (start == 0) { return true; }
+    if (start == limit || !Lexer.isBlank(input.charAt(start - 1))) { return false; }
+    for (int i = start - 1; i >= limit && input.charAt(i) != Lexer.LINE_END; i--) {
+      if (input.charAt(i) == Lexer.COMMENT_START) { return false; }
+    }
+    return true;
+  }
+
+  /**
+   * a top level command, the text it was parsed from, and what it needs the command names in it to
+   * mean for its tree to be the same
+   */
+  private static class Statement {
+
+    private final String text;
+    private final TreeNode tree;
+    private final Map<String, Integer> definitions = new HashMap<>();
+    private final Map<String, Integer> dependencies = new HashMap<>();
+
+    private Statement(String text, TreeNode tree) {
+      this.text = text;
+      this.tree = tree;
+      findDefinitions(tree);
+    }
+
+    private void findDefinitions(TreeNode node) {
+      if (MAKE_USER_INSTRUCTION.equals(node.getCommand()) && node.getChildren().size() > 1) {
+        definitions.putIfAbsent(node.getChildren().get(0).getCommand(),
+            node.getChildren().get(1).getChildren().size());
+      }
+      for (TreeNode child : node.getChildren()) {
+        findDefinitions(child);
+      }
+    }
+
+    private void findDependencies(List<Lexeme> words, Map<String, Integer> context) {
+      for (Lexeme word : words) {
+        if (COMMAND.equals(word.getType())) {
+          dependencies.putIfAbsent(word.getText(), resolve(word.getText(), context));
+        }
+      }
+    }
+
+    // the number of parameters a command name was parsed with, or NOT_USER_COMMAND if it was
+    // translated as a basic command
+    private int resolve(String name, Map<String, Integer> context) {
+      Integer arity = context.get(name);
+      if (arity == null) { arity = definitions.get(name); }
+      return arity == null ? NOT_USER_COMMAND : arity;
+    }
+
+    private boolean isValidIn(Map<String, Integer> context) {
+      for (Map.Entry<String, Integer> e : dependencies.entrySet()) {
+        if (resolve(e.getKey(), context) != e.getValue()) { return false; }
+      }
+      return true;
+    }
+
+    private boolean isAt(String input, int start) {
+      int end = start + text.length();
+      return input.startsWith(text, start) && (end == input.length()
+          || Lexer.isBlank(input.charAt(end)) || input.charAt(end) == Lexer.COMMENT_START);
+    }
+  }
+}
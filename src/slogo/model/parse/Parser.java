@@ -1,14 +1,9 @@
 package slogo.model.parse;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ResourceBundle;
 import java.util.regex.Pattern;
-import slogo.model.SLogoCommandExecutor;
 
 /**
  * Parse through the String of input and extract specified information from it depending on the responsibility of the class
@@ -25,39 +20,12 @@ public abstract class Parser {
 
   /**
    * all Parsers have access to the map of regex patterns and the expected parameters for the commands provided so they are declared here.
-   * declares these maps as a basis for all parsers that extend this abstract class
+   * declares these maps as a basis for all parsers that extend this abstract class. the patterns and the basic command parameters are
+   * read and compiled once in Grammar and shared, only the parameter map is copied since list and user defined command counts get added to it
    */
   public Parser(){
-    syntaxMap = addRegExPatterns();
-    commandParam = addExpectedParams();
-  }
-
-  /**
-   * creates map of syntax regex patterns particular to the SLogo language
-   * @return Map of Regex types to their patterns
-   */
-  protected Map<String, Pattern> addRegExPatterns() {
-    Map<String, Pattern> regexMap = new HashMap<>();
-    ResourceBundle resources = ResourceBundle.getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + SLogoCommandExecutor.REGEX_SYNTAX);
-    for (String key : Collections.list(resources.getKeys())) {
-      String regex = resources.getString(key);
-      regexMap.put(key, Pattern.compile(regex, Pattern.CASE_INSENSITIVE));
-    }
-    return regexMap;
-  }
-
-  /**
-   * creates map of all basic commands and their expected token inputs as parameters
-   */
-  protected Map<String, List<String>> addExpectedParams() {
-    Map<String, List<String>> paramMap = new HashMap<>();
-    ResourceBundle resources = ResourceBundle.getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + SLogoCommandExecutor.COMMAND_PARAMS);
-    for (String key : Collections.list(resources.getKeys())) {
-      List<String> params = new ArrayList<>(Arrays.asList(resources.getString(key).split(" ")));
-      params.removeIf(command -> command.equals(""));
-      paramMap.put(key, params);
-    }
-    return paramMap;
+    syntaxMap = Grammar.getSyntax();
+    commandParam = new HashMap<>(Grammar.getCommandParams());
   }
 
   /**
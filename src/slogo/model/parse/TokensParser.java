@@ -14,7 +14,7 @@ import slogo.model.parse.tokens.Token;
 import slogo.model.parse.tokens.TokenFactory;
 
 /**
- * Condenses the translated String input as a List into a List of Token objects based on the Regex token.
+ * Condenses the translated String input as a List into a List of Token objects based on the syntax type the Lexer gave each word.
  * Also deals with different types of lists in String input. More details are in the TokenFactory javadoc in terms of
  * explaining what a Token is and its purpose. This class just organizes and uses this class to make it ready for
  * counting paameters and extracting desired information about commands.
@@ -23,11 +23,14 @@ import slogo.model.parse.tokens.TokenFactory;
  */
 public class TokensParser extends Parser {
   private final List<String> cleanedString;
+  private final List<Lexeme> lexemes;
   private List<Token> tokens;
   public static final String TOKEN_PACKAGE = TokensParser.class.getPackageName() + ".tokens.";
   private static final String COMMAND_WITH_LISTS = "CommandBlocks";
+  private static final String LIST_START = "ListStart";
 
-  private ResourceBundle listParams;
+  private static final ResourceBundle LIST_PARAMS = ResourceBundle
+      .getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + COMMAND_WITH_LISTS);
   private Deque<List<String>> tokenizeStack;
   private TokenFactory tokenFactory;
 
@@ -35,11 +38,13 @@ public class TokensParser extends Parser {
    * Constructs the TokensParser object and necessary instance variables.
    *
    * @param cleanedString list of string commands recognizable by the back end
+   * @param lexemes the words the strings were translated from, in the same order, which give the
+   *                syntax type of each string
    */
-  public TokensParser(List<String> cleanedString) {
+  public TokensParser(List<String> cleanedString, List<Lexeme> lexemes) {
     this.cleanedString = cleanedString;
+    this.lexemes = lexemes;
     tokenFactory = new TokenFactory();
-    listParams = ResourceBundle.getBundle(SLogoCommandExecutor.COMMAND_PACKAGE + COMMAND_WITH_LISTS);
     tokens = new ArrayList<>();
     tokenizeStack = new ArrayDeque<>();
   }
@@ -71,17 +76,19 @@ public class TokensParser extends Parser {
   private void tokenize() {
     String expected = null;
     boolean inList = false;
-    for (String s : cleanedString) {
+    for (int i = 0; i < cleanedString.size(); i++) {
+      String s = cleanedString.get(i);
+      String type = lexemes.get(i).getType();
       Token toAdd;
-      if (isListStart(s)) {
+      if (LIST_START.equals(type)) {
         try {
           toAdd = tokenFactory.makeToken(tokenizeStack.peek().get(0));
         } catch (Exception e) {
           throw new ErrorHandler("WrongParamNum");
         }
         inList = true;
-      } else { toAdd = tokenFactory.makeToken(s); }
-      if (listParams.containsKey(s)) {
+      } else { toAdd = tokenFactory.makeToken(s, type); }
+      if (LIST_PARAMS.containsKey(s)) {
         tokenizeStack.push(getListParams(s));
         expected = tokenizeStack.peek().get(0);
         tokens.add(toAdd);
@@ -95,7 +102,7 @@ public class TokensParser extends Parser {
   }
 
   private List<String> getListParams(String command) {
-    String[] splitList= listParams.getString(command).split(" ");
+    String[] splitList= LIST_PARAMS.getString(command).split(" ");
     List<String> splitAsList = Arrays.asList(splitList);
     return new ArrayList<>(splitAsList);
   }
@@ -108,8 +115,6 @@ public class TokensParser extends Parser {
     return s.contains("List");
   }
 
-  private boolean isListStart(String s) { return match(s, syntaxMap.get("ListStart")); }
-
   private String checkExpectedToken(Token toAdd, String expected, boolean inList) {
     if(!getClassName(toAdd).equals(expected) && !inList) {
       throw new ErrorHandler("WrongParamNum");
@@ -2,7 +2,7 @@ package slogo.model.parse.tokens;
 
 import java.util.regex.Pattern;
 import slogo.model.parse.CommandParser;
-import slogo.model.parse.Parser;
+import slogo.model.parse.Grammar;
 
 /**
  * Tokens are used to groups all the individual commands, constants, variables, lists into broader groups such that they are easier to parse through in order to obtain
@@ -18,7 +18,8 @@ public abstract class Token {
 
   private String command;
   private String value;
-  private static final Pattern CONSTANT_REGEX = Parser.syntaxMap.get("Constant");
+  private int sourceIndex;
+  private static final Pattern CONSTANT_REGEX = Grammar.getSyntax().get("Constant");
 
   /**
    * constructs a token object and saves the command that corresponds to it.
@@ -52,6 +53,19 @@ public abstract class Token {
    */
   public void setValue(String val) { value = val; }
 
+  /**
+   * gives the position of the word of input this token was made from, counting words from the start
+   * of the input
+   * @return index of the word this token came from
+   */
+  public int getSourceIndex() { return sourceIndex; }
+
+  /**
+   * saves the position of the word of input this token was made from
+   * @param index index of the word this token came from
+   */
+  public void setSourceIndex(int index) { sourceIndex = index; }
+
   /**
    * checks to see if a command has been defined, whether it be a basic command that was predefined or is a user defined command
    * from a previous command input or the current one and it preceded.
@@ -1,7 +1,9 @@
 package slogo.model.parse.tokens;
 
+import java.lang.reflect.Constructor;
+import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import slogo.ErrorHandler;
 import slogo.model.SLogoCommandExecutor;
 import slogo.model.parse.TokensParser;
@@ -19,7 +21,9 @@ public class TokenFactory {
 
   private static final String TOKENS_MAP = "TokenSyntax";
 
-  private final ResourceBundle tokenMap;
+  private static final ResourceBundle TOKEN_MAP = ResourceBundle
+      .getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + TOKENS_MAP);
+  private static final Map<String, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
 
   /**
    * constructs the TokenFactory object responsible for making a single Token with refleciton based on the String representation of
@@ -27,42 +31,50 @@ public class TokenFactory {
    * TokenSyntax and CommandBlocks properties files.
    */
   public TokenFactory() {
-    tokenMap = ResourceBundle.getBundle(SLogoCommandExecutor.LANGUAGES_PACKAGE + TOKENS_MAP);
   }
 
   /**
-   * method that makes the proper Token according to what is desired when method is called (the String representation of what is desired
-   * with command). Uses reflection to make the proper token type as specified in properties files with proper mapping obtained
-   * through the private tokenType method.
+   * method that makes the proper Token for a word of input. The type the Lexer gave the word when
+   * it was read picks the token class through the TokenSyntax properties file, so the word is not
+   * matched against the syntax patterns again.
    *
-   * @param command states the command name, or for lists the list type, that the respective token should be made for and returned.
+   * @param command states the command name, constant or variable the token should be made for
+   * @param syntaxType the Syntax key the Lexer matched the word to, or null if it matched none
+   * @return Token of proper subclass type as specified by the syntax type.
+   */
+  public Token makeToken(String command, String syntaxType) {
+    if (syntaxType == null || command.contains("List")) { return makeToken(command); }
+    if (!TOKEN_MAP.containsKey(syntaxType)) { throw new ErrorHandler("TokenCannotBeMade"); }
+    return construct(TOKEN_MAP.getString(syntaxType), command);
+  }
+
+  /**
+   * method that makes a token whose class is named directly, which is how list tokens are made from
+   * the list types in the CommandBlocks properties file.
+   *
+   * @param command states the list type, which is also the name of the token class.
    * @return Token of proper subclass type as specified by command.
    */
   public Token makeToken(String command) {
-    String type = tokenType(command);
-    if (command.contains("List")) { type = command; }
-    Token toRet;
+    return construct(command, command);
+  }
+
+  private Token construct(String type, String command) {
     try {
-      toRet = (Token) Class.forName(TokensParser.TOKEN_PACKAGE + type).getDeclaredConstructor(String.class).newInstance(command);
+      return (Token) findConstructor(type).newInstance(command);
     } catch (Exception e) {
       throw new ErrorHandler("TokenCannotBeMade");
     }
-    return toRet;
   }
 
-  private String tokenType(String command) {
-    String regexType = "";
-    for (String key : TokensParser.syntaxMap.keySet()) {
-      Pattern check = TokensParser.syntaxMap.get(key);
-      if (check.matcher(command).matches()) {
-        regexType = key;
-        break;
-      }
-    }
-    if (!regexType.equals("")) {
-      return tokenMap.getString(regexType);
+  // a token class is only looked up the first time it is needed, not once for every word of input
+  private Constructor<?> findConstructor(String type) throws ReflectiveOperationException {
+    Constructor<?> constructor = CONSTRUCTORS.get(type);
+    if (constructor == null) {
+      constructor = Class.forName(TokensParser.TOKEN_PACKAGE + type).getDeclaredConstructor(String.class);
+      CONSTRUCTORS.put(type, constructor);
     }
-    return command;
+    return constructor;
   }
 
 }
@@ -0,0 +1,85 @@
+package slogo.view;
+
+import java.util.function.DoubleSupplier;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Plays the waiting turtle updates once per display refresh. Each frame applies the updates that
+ * became due at the current animation speed, but stops when the frame's time budget is used up so
+ * the window stays responsive. Updates that didn't fit wait for the next frame. At the top speed
+ * every update is due, so large drawings finish as fast as the budget allows.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+public class AnimationScheduler extends AnimationTimer {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final int UPDATES_PER_CHECK = 64;
+
+  private final ViewPane viewPane;
+  private final DoubleSupplier speed;
+  private long frameBudget;
+  private long lastFrame;
+  private double updatesDue;
+  private boolean instant;
+
+  /**
+   * Purpose: Creates the scheduler for the turtle display.
+   * Assumptions: None
+   * Parameters: ViewPane viewPane, DoubleSupplier speed, double frameBudgetMillis
+   * Exception: None
+   * @param speed gives the number of updates to apply per second, or infinity for no limit
+   */
+  public AnimationScheduler(ViewPane viewPane, DoubleSupplier speed, double frameBudgetMillis) {
+    this.viewPane = viewPane;
+    this.speed = speed;
+    setFrameBudget(frameBudgetMillis);
+  }
+
+  /**
+   * Purpose: Changes the most time each frame can spend applying turtle updates.
+   * Assumptions: The budget is positive
+   * Parameters: double frameBudgetMillis
+   * Exception: None
+   */
+  public void setFrameBudget(double frameBudgetMillis) {
+    frameBudget = (long) (frameBudgetMillis * NANOS_PER_MILLI);
+  }
+
+  /**
+   * Purpose: Chooses whether every waiting update is applied in the next frame, ignoring the
+   *          speed and the frame budget.
+   * Assumptions: None
+   * Parameters: boolean instant
+   * Exception: None
+   */
+  public void setInstant(boolean instant) {
+    this.instant = instant;
+  }
+
+  @Override
+  public void handle(long now) {
+    if (instant) {
+      lastFrame = now;
+      updatesDue = 0;
+      viewPane.updateTurtleStates(Integer.MAX_VALUE);
+      return;
+    }
+    long deadline = System.nanoTime() + frameBudget;
+    if (lastFrame != 0 && now > lastFrame) {
+      double updatesPerSecond = speed.getAsDouble();
+      double newlyDue = updatesPerSecond * (now - lastFrame) / NANOS_PER_SECOND;
+      updatesDue = Math.min(Integer.MAX_VALUE, updatesDue + newlyDue);
+    }
+    lastFrame = now;
+    while (updatesDue >= 1 && System.nanoTime() < deadline) {
+      int count = (int) Math.min(updatesDue, UPDATES_PER_CHECK);
+      updatesDue -= count;
+      if (viewPane.updateTurtleStates(count) < count) {
+        updatesDue = 0;
+      }
+    }
+  }
+}
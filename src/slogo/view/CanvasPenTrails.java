@@ -0,0 +1,54 @@
+package slogo.view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws pen trails into a single canvas behind the turtles. Each line is painted into the canvas
+ * instead of being added to the scene as its own node, so drawing stays just as fast and uses the
+ * same memory however many lines the picture has.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+class CanvasPenTrails implements PenTrails {
+
+  private static final String TRAILS_ID = "PenTrails";
+
+  private final Pane turtleViewPane;
+  private final Canvas canvas;
+  private final GraphicsContext graphics;
+
+  /**
+   * Purpose: Creates the canvas and puts it behind everything else in the turtle display.
+   * Assumptions: The turtle display does not change size
+   * Parameters: Pane turtleViewPane, double width, double height
+   * Exception: None
+   */
+  CanvasPenTrails(Pane turtleViewPane, double width, double height) {
+    this.turtleViewPane = turtleViewPane;
+    canvas = new Canvas(width, height);
+    canvas.setId(TRAILS_ID);
+    canvas.setMouseTransparent(true);
+    graphics = canvas.getGraphicsContext2D();
+    turtleViewPane.getChildren().add(0, canvas);
+  }
+
+  @Override
+  public void drawLine(double startX, double startY, double endX, double endY, Paint penColor,
+      double thickness) {
+    graphics.setStroke(penColor);
+    graphics.setLineWidth(thickness);
+    graphics.strokeLine(startX, startY, endX, endY);
+  }
+
+  @Override
+  public void clear() {
+    graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    if (!turtleViewPane.getChildren().contains(canvas)) {
+      turtleViewPane.getChildren().add(0, canvas);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package slogo.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Line;
+
+/**
+ * Draws pen trails as a separate Line node for every stroke. Each line can be looked up and
+ * inspected on its own, but the scene gets slower as the picture grows.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+class LinePenTrails implements PenTrails {
+
+  private static final String LINE_ID = "Line";
+
+  private final Pane turtleViewPane;
+  private final List<Line> lines;
+
+  /**
+   * Purpose: Creates the trails that add their lines to the turtle display.
+   * Assumptions: None
+   * Parameters: Pane turtleViewPane, double width, double height
+   * Exception: None
+   */
+  LinePenTrails(Pane turtleViewPane, double width, double height) {
+    this.turtleViewPane = turtleViewPane;
+    lines = new ArrayList<>();
+  }
+
+  @Override
+  public void drawLine(double startX, double startY, double endX, double endY, Paint penColor,
+      double thickness) {
+    Line line = new Line(startX, startY, endX, endY);
+    line.setStroke(penColor);
+    line.setId(LINE_ID);
+    line.setStrokeWidth(thickness);
+    lines.add(line);
+    turtleViewPane.getChildren().add(line);
+  }
+
+  @Override
+  public void clear() {
+    turtleViewPane.getChildren().removeAll(lines);
+    lines.clear();
+  }
+}
@@ -0,0 +1,32 @@
+package slogo.view;
+
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws the lines the turtles leave behind when their pens are down. Which implementation the
+ * turtle display uses is set in the default preferences file.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+interface PenTrails {
+
+  /**
+   * Purpose: Draws one pen stroke between two points of the turtle display.
+   * Assumptions: The points are in the coordinates of the turtle display pane
+   * Parameters: double startX, double startY, double endX, double endY, Paint penColor,
+   *             double thickness
+   * Exception: None
+   */
+  void drawLine(double startX, double startY, double endX, double endY, Paint penColor,
+      double thickness);
+
+  /**
+   * Purpose: Removes every line drawn so far, and puts the trails back in the turtle display if
+   *          the display was cleared.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  void clear();
+}
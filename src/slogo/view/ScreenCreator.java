@@ -4,13 +4,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.ResourceBundle;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import slogo.controller.FrontEndExternalAPI;
 import slogo.model.commands.basic_commands.UserDefinedCommand;
 
@@ -28,6 +24,9 @@ public class ScreenCreator implements FrontEndInternalAPI {
   private static final String DEFAULT_RESOURCES =
       HistoryDisplayPane.class.getPackageName() + ".resources.";
   private static final String IDS_FOR_TESTING = DEFAULT_RESOURCES + "IDsforTesting";
+  private static final String PREFERENCES = DEFAULT_RESOURCES + "preferences.DefaultPreferences";
+  private static final String FRAME_BUDGET_KEY = "FrameBudgetMillis";
+  private static final String INSTANT_RENDER_KEY = "InstantRender";
 
   private BorderPane root;
   private Scene scene;
@@ -36,7 +35,7 @@ public class ScreenCreator implements FrontEndInternalAPI {
   private UserCommandPane userCommand;
   private ViewPane viewPane;
   private CommandButtonPane commandButtonPane;
-  private Timeline timeline;
+  private AnimationScheduler animation;
 
   /**
    * Purpose: Create the main stage and scene that holds all the other scenes.
@@ -74,16 +73,6 @@ public class ScreenCreator implements FrontEndInternalAPI {
     runSimulation();
   }
 
-  /**
-   * Purpose:
-   * Assumptions:
-   * Parameters:
-   * Exception: None
-   */
-  private void setAnimationSpeed() {
-    timeline.setRate(userCommand.getAnimationSpeed());
-  }
-
   /**
    * Purpose: Returns the language from the combobox displayed on the view pane.
    * Assumptions: There is a language displayed on the view pane.
@@ -139,14 +128,24 @@ public class ScreenCreator implements FrontEndInternalAPI {
   }
 
   private void runSimulation() {
-    timeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
-
-      updateTurtleStates();
-      setAnimationSpeed();
-    }));
-    timeline.setCycleCount(Animation.INDEFINITE);
-    timeline.play();
-    timeline.setRate(300);
+    ResourceBundle preferences = ResourceBundle.getBundle(PREFERENCES);
+    double frameBudget = Double.parseDouble(preferences.getString(FRAME_BUDGET_KEY));
+    animation = new AnimationScheduler(viewPane, userCommand::getAnimationSpeed, frameBudget);
+    setInstantRender(Boolean.parseBoolean(preferences.getString(INSTANT_RENDER_KEY)));
+    animation.start();
+  }
+
+  /**
+   * Purpose: Chooses whether turtle moves are animated or drawn straight to their end points,
+   *          with every waiting update applied in the next frame.
+   * Assumptions: None
+   * Parameters: boolean instant
+   * Exception: None
+   */
+  public void setInstantRender(boolean instant) {
+    userCommand.setInstantRender(instant);
+    viewPane.setInstantRender(instant);
+    animation.setInstant(instant);
   }
 
   /**
@@ -169,6 +168,16 @@ public class ScreenCreator implements FrontEndInternalAPI {
     viewPane.updateCommandQueue(commandType, commandValues);
   }
 
+  /**
+   * Purpose: Gives the queue of turtle updates waiting to be animated.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  public TurtleEventQueue getTurtleEvents() {
+    return viewPane.getTurtleEvents();
+  }
+
   /**
    * Purpose:
    * Assumptions:
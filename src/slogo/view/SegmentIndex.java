@@ -0,0 +1,272 @@
+package slogo.view;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.paint.Paint;
+
+/**
+ * Keeps every pen stroke drawn so far, filed by the square cells of a uniform grid that the stroke
+ * passes through, so the strokes in one area of the drawing can be found without looking at the
+ * rest. Stroke end points and widths are kept in plain arrays indexed by stroke number, so holding
+ * a very large drawing doesn't make an object for every stroke.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+class SegmentIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int INITIAL_CELL_CAPACITY = 8;
+
+  /**
+   * Something done to each stroke a search finds.
+   */
+  interface SegmentVisitor {
+
+    /**
+     * Purpose: Handles one stroke found by a search.
+     * Assumptions: None
+     * Parameters: int segment
+     * Exception: None
+     */
+    void visit(int segment);
+  }
+
+  private final double cellSize;
+  private final Map<Long, int[]> cells;
+  private double[] coordinates;
+  private double[] thicknesses;
+  private Paint[] colors;
+  private int[] visited;
+  private int size;
+  private int search;
+  private double maxThickness;
+
+  /**
+   * Purpose: Creates an empty index.
+   * Assumptions: The cell size is positive
+   * Parameters: double cellSize
+   * Exception: None
+   */
+  SegmentIndex(double cellSize) {
+    this.cellSize = cellSize;
+    cells = new HashMap<>();
+    coordinates = new double[INITIAL_CAPACITY * 4];
+    thicknesses = new double[INITIAL_CAPACITY];
+    colors = new Paint[INITIAL_CAPACITY];
+    visited = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Purpose: Adds a stroke and files it under every cell its line passes through.
+   * Assumptions: None
+   * Parameters: double startX, double startY, double endX, double endY, Paint penColor,
+   *             double thickness
+   * Exception: None
+   * @return the number of the new stroke
+   */
+  int add(double startX, double startY, double endX, double endY, Paint penColor,
+      double thickness) {
+    if (size == thicknesses.length) {
+      grow();
+    }
+    int segment = size++;
+    coordinates[segment * 4] = startX;
+    coordinates[segment * 4 + 1] = startY;
+    coordinates[segment * 4 + 2] = endX;
+    coordinates[segment * 4 + 3] = endY;
+    thicknesses[segment] = thickness;
+    colors[segment] = penColor;
+    maxThickness = Math.max(maxThickness, thickness);
+    fileUnderCells(segment, startX, startY, endX, endY);
+    return segment;
+  }
+
+  /**
+   * Purpose: Visits every stroke whose line passes through a cell that overlaps the rectangle,
+   *          each one once and in the order they were drawn. A few strokes that only pass near
+   *          the rectangle can be visited too. Strokes are found by the cells of their center
+   *          line, so the rectangle should be made bigger by half the widest pen to also find
+   *          strokes that only reach into it with their width.
+   * Assumptions: minX is not more than maxX and minY is not more than maxY
+   * Parameters: double minX, double minY, double maxX, double maxY, SegmentVisitor visitor
+   * Exception: None
+   */
+  void forEachIn(double minX, double minY, double maxX, double maxY, SegmentVisitor visitor) {
+    search++;
+    long firstColumn = cellOf(minX);
+    long lastColumn = cellOf(maxX);
+    long firstRow = cellOf(minY);
+    long lastRow = cellOf(maxY);
+    if ((lastColumn - firstColumn + 1) * (lastRow - firstRow + 1) > cells.size()) {
+      forEachFiledIn(firstColumn, firstRow, lastColumn, lastRow, visitor);
+      return;
+    }
+    int[] found = new int[INITIAL_CELL_CAPACITY];
+    int foundCount = 0;
+    for (long column = firstColumn; column <= lastColumn; column++) {
+      for (long row = firstRow; row <= lastRow; row++) {
+        int[] cell = cells.get(key(column, row));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 1; i <= cell[0]; i++) {
+          if (visited[cell[i]] != search) {
+            visited[cell[i]] = search;
+            if (foundCount == found.length) {
+              found = Arrays.copyOf(found, found.length * 2);
+            }
+            found[foundCount++] = cell[i];
+          }
+        }
+      }
+    }
+    Arrays.sort(found, 0, foundCount);
+    for (int i = 0; i < foundCount; i++) {
+      visitor.visit(found[i]);
+    }
+  }
+
+  // when the rectangle covers more cells than are in use, going through the strokes is quicker
+  // than looking up every cell of the rectangle
+  private void forEachFiledIn(long firstColumn, long firstRow, long lastColumn, long lastRow,
+      SegmentVisitor visitor) {
+    for (int segment = 0; segment < size; segment++) {
+      double startX = coordinates[segment * 4];
+      double startY = coordinates[segment * 4 + 1];
+      double endX = coordinates[segment * 4 + 2];
+      double endY = coordinates[segment * 4 + 3];
+      if (cellOf(Math.max(startX, endX)) >= firstColumn
+          && cellOf(Math.min(startX, endX)) <= lastColumn
+          && cellOf(Math.max(startY, endY)) >= firstRow
+          && cellOf(Math.min(startY, endY)) <= lastRow) {
+        visitor.visit(segment);
+      }
+    }
+  }
+
+  /**
+   * Purpose: Removes every stroke.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  void clear() {
+    cells.clear();
+    size = 0;
+    maxThickness = 0;
+    Arrays.fill(colors, null);
+  }
+
+  int size() {
+    return size;
+  }
+
+  double getStartX(int segment) {
+    return coordinates[segment * 4];
+  }
+
+  double getStartY(int segment) {
+    return coordinates[segment * 4 + 1];
+  }
+
+  double getEndX(int segment) {
+    return coordinates[segment * 4 + 2];
+  }
+
+  double getEndY(int segment) {
+    return coordinates[segment * 4 + 3];
+  }
+
+  double getThickness(int segment) {
+    return thicknesses[segment];
+  }
+
+  Paint getColor(int segment) {
+    return colors[segment];
+  }
+
+  /**
+   * Purpose: Gives the width of the widest pen of any stroke, to know how far a stroke can reach
+   *          past the cells of its center line.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  double getMaxThickness() {
+    return maxThickness;
+  }
+
+  // walks the cells along the line one at a time, stepping into whichever of the next column or
+  // the next row the line reaches first
+  private void fileUnderCells(int segment, double startX, double startY, double endX,
+      double endY) {
+    long column = cellOf(startX);
+    long row = cellOf(startY);
+    long lastColumn = cellOf(endX);
+    long lastRow = cellOf(endY);
+    double deltaX = endX - startX;
+    double deltaY = endY - startY;
+    int stepColumn = Long.signum(lastColumn - column);
+    int stepRow = Long.signum(lastRow - row);
+    double nextColumnAt = crossing(startX, deltaX, column, stepColumn);
+    double nextRowAt = crossing(startY, deltaY, row, stepRow);
+    double columnStep = stepColumn == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(deltaX);
+    double rowStep = stepRow == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(deltaY);
+    fileUnder(segment, column, row);
+    while (column != lastColumn || row != lastRow) {
+      if (row == lastRow || (column != lastColumn && nextColumnAt < nextRowAt)) {
+        column += stepColumn;
+        nextColumnAt += columnStep;
+      } else {
+        row += stepRow;
+        nextRowAt += rowStep;
+      }
+      fileUnder(segment, column, row);
+    }
+  }
+
+  // how far along the line, from 0 at its start to 1 at its end, it leaves its first cell in
+  // one direction
+  private double crossing(double start, double delta, long cell, int step) {
+    if (step == 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double border = (step > 0 ? cell + 1 : cell) * cellSize;
+    return (border - start) / delta;
+  }
+
+  // each cell is an array whose first element is how many strokes are in it
+  private void fileUnder(int segment, long column, long row) {
+    long key = key(column, row);
+    int[] cell = cells.get(key);
+    if (cell == null || cell[0] + 1 == cell.length) {
+      cell = cell == null ? new int[INITIAL_CELL_CAPACITY] : Arrays.copyOf(cell, cell.length * 2);
+      cells.put(key, cell);
+    }
+    cell[++cell[0]] = segment;
+  }
+
+  private long cellOf(double coordinate) {
+    return (long) Math.floor(coordinate / cellSize);
+  }
+
+  private long key(long column, long row) {
+    return (column << 32) ^ (row & 0xffffffffL);
+  }
+
+  private void grow() {
+    int capacity = thicknesses.length * 2;
+    double[] biggerCoordinates = new double[capacity * 4];
+    System.arraycopy(coordinates, 0, biggerCoordinates, 0, size * 4);
+    coordinates = biggerCoordinates;
+    double[] biggerThicknesses = new double[capacity];
+    System.arraycopy(thicknesses, 0, biggerThicknesses, 0, size);
+    thicknesses = biggerThicknesses;
+    Paint[] biggerColors = new Paint[capacity];
+    System.arraycopy(colors, 0, biggerColors, 0, size);
+    colors = biggerColors;
+    visited = Arrays.copyOf(visited, capacity);
+  }
+}
@@ -0,0 +1,54 @@
+package slogo.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import javafx.scene.image.Image;
+
+/**
+ * Decodes each built in turtle sprite once and shares the decoded image with every turtle, in
+ * every window, that shows it. Sprites are found by the shape index the model uses, with the
+ * resource of each shape read from the turtle shapes file. Only those resources are kept, so
+ * images a user uploads are never held here. Changing which turtles are active only swaps which
+ * of the shared images a turtle shows.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+final class SpriteCache {
+
+  private static final String SHAPES_RESOURCE =
+      SpriteCache.class.getPackageName() + ".resources.TurtleShapes";
+  private static final String INACTIVE_SUFFIX = ".Inactive";
+  private static final ResourceBundle SHAPES = ResourceBundle.getBundle(SHAPES_RESOURCE);
+  private static final Map<String, Image> IMAGES = new HashMap<>();
+
+  private SpriteCache() {
+  }
+
+  /**
+   * Purpose: Gives the image of a turtle shape, for an active or an inactive turtle, decoding it
+   *          the first time it is asked for. A shape without its own inactive sprite looks the
+   *          same either way.
+   * Assumptions: The shape is in the turtle shapes file. Called on the JavaFX application thread
+   * Parameters: int shape, boolean active
+   * Exception: None
+   */
+  static Image forShape(int shape, boolean active) {
+    String key = String.valueOf(shape);
+    if (!active && SHAPES.containsKey(key + INACTIVE_SUFFIX)) {
+      key += INACTIVE_SUFFIX;
+    }
+    return IMAGES.computeIfAbsent(SHAPES.getString(key), Image::new);
+  }
+
+  /**
+   * Purpose: Tells whether the turtle shapes file has a sprite for a shape index.
+   * Assumptions: None
+   * Parameters: int shape
+   * Exception: None
+   */
+  static boolean hasShape(int shape) {
+    return SHAPES.containsKey(String.valueOf(shape));
+  }
+}
@@ -1,12 +1,14 @@
 package slogo.view;
 
-import java.lang.reflect.Method;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
@@ -14,8 +16,8 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Line;
 import slogo.controller.FrontEndExternalAPI;
 
 /**
@@ -33,20 +35,23 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
   public static final String UPDATE_NEXT_RESOURCE =
       DEFAULT_RESOURCES + "UpdateNextReflectionActions";
   private static final String ERROR_LANGUAGE = DEFAULT_RESOURCES + ".errormessages.Error";
+  private static final String PREFERENCES = DEFAULT_RESOURCES + "preferences.DefaultPreferences";
+  private static final String PEN_TRAILS_KEY = "PenTrails";
 
   private static final String PANE_BOX_ID = "TurtleView";
-  private static final String LINE_ID = "Line";
   private final double centerX;
   private final double centerY;
   private GridPane viewPane;
   private AnchorPane turtleViewPane;
+  private PenTrails penTrails;
   private double penUP = 1;
   double x;
   double y;
   private Paint penColor;
-  private Deque<Double> commandsToBeExecuted;
-  private Deque<String> typeToBeUpdated;
+  private TurtleEventQueue turtleEvents;
+  private final MethodHandle[] eventHandlers;
   private int INCREMENT_FACTOR = 10;
+  private boolean instantRender;
   private double rows;
   private double cols;
   private Map<Integer, FrontEndSprite> allTurtleInformation;
@@ -56,8 +61,8 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
   private String cS = "clearscreen";
   private ResourceBundle errorLanguageResource;
 
-  String turtleImageFile = "Turtle2.gif";
-  String inactiveTurtleImageFile = "Turtle3.gif";
+  private int shape;
+  private Set<Integer> activeTurtleIDs;
 
   /**
    * Purpose: Creates the pane for the turtle to be displayed in.
@@ -86,38 +91,67 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
     centerX = rows / 2 - TURTLE_HEIGHT / 2;
     centerY = cols / 2 - TURTLE_WIDTH / 2;
 
-    commandsToBeExecuted = new ArrayDeque<>();
-    typeToBeUpdated = new ArrayDeque<>();
+    turtleEvents = new TurtleEventQueue();
+    eventHandlers = makeEventHandlers();
     allTurtleInformation = new HashMap<>();
+    penTrails = createPenTrails();
 
     createTurtle(FIRST_TURTLE);
   }
 
   /**
-   * Purpose:
-   * Assumptions:
-   * Parameters:
+   * Purpose: Applies the oldest waiting turtle update to the display.
+   * Assumptions: None
+   * Parameters: None
    * Exception: Throws an exception if the turtle moves out of the frame
    */
   @Override
   public void updateTurtleStates() {
-    String key;
-    ResourceBundle updateNextActionResources = ResourceBundle.getBundle(UPDATE_NEXT_RESOURCE);
-    if (!typeToBeUpdated.isEmpty()) {
-      key = typeToBeUpdated.removeFirst();
+    updateTurtleStates(1);
+  }
+
+  /**
+   * Purpose: Applies up to eventCount of the waiting turtle updates in one pass, so every update
+   *          due in an animation frame is drawn in that frame.
+   * Assumptions: None
+   * Parameters: int eventCount
+   * Exception: Throws an exception if the turtle moves out of the frame
+   * @return the number of updates applied, less than eventCount if the queue ran out
+   */
+  public int updateTurtleStates(int eventCount) {
+    int applied = 0;
+    while (applied < eventCount && !turtleEvents.isEmpty()) {
       try {
-        String methodName = updateNextActionResources.getString(key);
-        Method m = TurtleDisplayPane.this.getClass().getDeclaredMethod(methodName);
-        m.invoke(TurtleDisplayPane.this);
-      } catch (Exception e) {
+        eventHandlers[turtleEvents.next()].invokeExact(this);
+      } catch (Throwable e) {
         new Alert(Alert.AlertType.ERROR);
       }
+      applied++;
+    }
+    return applied;
+  }
+
+  // looks up the method for each kind of update once, using the method names in the update
+  // actions resource file, instead of finding it by reflection every time an update is applied
+  private MethodHandle[] makeEventHandlers() {
+    ResourceBundle updateNextActionResources = ResourceBundle.getBundle(UPDATE_NEXT_RESOURCE);
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle[] handlers = new MethodHandle[TurtleEventQueue.OPCODE_COUNT];
+    for (int opcode = 0; opcode < handlers.length; opcode++) {
+      String methodName = updateNextActionResources.getString(TurtleEventQueue.typeOf(opcode));
+      try {
+        handlers[opcode] = lookup.findVirtual(TurtleDisplayPane.class, methodName,
+            MethodType.methodType(void.class));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(methodName, e);
+      }
     }
+    return handlers;
   }
 
   private void updatePosition() {
-    double nextX = commandsToBeExecuted.pop();
-    double nextY = commandsToBeExecuted.pop();
+    double nextX = turtleEvents.nextValue();
+    double nextY = turtleEvents.nextValue();
 
     if (nextY < 0 || nextX < 0 || nextY > cols - TURTLE_HEIGHT || nextX > rows - TURTLE_WIDTH) {
       Alert error = new Alert(AlertType.ERROR);
@@ -136,25 +170,24 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
   }
 
   private void clearQueue() {
-    commandsToBeExecuted.clear();
-    typeToBeUpdated.clear();
+    turtleEvents.clear();
   }
 
   private void updateAngles() {
-    allTurtleInformation.get(currentID).getTurtle().setRotate(90 - commandsToBeExecuted.pop());
+    allTurtleInformation.get(currentID).getTurtle().setRotate(90 - turtleEvents.nextValue());
   }
 
   private void updatePen() {
-    allTurtleInformation.get(currentID).setPenState(commandsToBeExecuted.removeFirst());
+    allTurtleInformation.get(currentID).setPenState(turtleEvents.nextValue());
   }
 
   private void updateVisibility() {
     allTurtleInformation.get(currentID).getTurtle()
-        .setVisible(commandsToBeExecuted.removeFirst() == 1);
+        .setVisible(turtleEvents.nextValue() == 1);
   }
 
   private void setID() {
-    currentID = (int) Math.round(commandsToBeExecuted.pop());
+    currentID = (int) Math.round(turtleEvents.nextValue());
   }
 
   private void updateTurtleImages() {
@@ -162,15 +195,24 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
   }
 
   private void setPenThickness() {
-    allTurtleInformation.get(currentID).setPenThickness(commandsToBeExecuted.removeFirst());
+    allTurtleInformation.get(currentID).setPenThickness(turtleEvents.nextValue());
+  }
+
+  // changes every turtle to the sprite of a shape from the turtle shapes file, leaving out shape
+  // indexes without a sprite
+  private void updateShape() {
+    int index = (int) Math.round(turtleEvents.nextValue());
+    if (SpriteCache.hasShape(index)) {
+      shape = index;
+      updateSprites();
+    }
   }
 
 
   private void createTurtle(int id) {
 
-    Image turtleImage = new Image(turtleImageFile);
     String imageID = "Turtle" + id;
-    ImageView turtle = new ImageView(turtleImage);
+    ImageView turtle = new ImageView(SpriteCache.forShape(shape, isActive(id)));
     turtle.setFitWidth(TURTLE_WIDTH);
     turtle.setFitHeight(TURTLE_HEIGHT);
     turtle.setId(imageID);
@@ -201,27 +243,49 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
     y = turtleViewPane.getHeight() / 2 - yCoordinate * turtleViewPane.getHeight() / cols
         - TURTLE_HEIGHT / 2;
 
-    double xIncrement = (x - allTurtleInformation.get(currentID).getxCoord()) / INCREMENT_FACTOR;
-    double yIncrement = (y - allTurtleInformation.get(currentID).getyCoord()) / INCREMENT_FACTOR;
+    int steps = instantRender ? 1 : INCREMENT_FACTOR;
+    double xIncrement = (x - allTurtleInformation.get(currentID).getxCoord()) / steps;
+    double yIncrement = (y - allTurtleInformation.get(currentID).getyCoord()) / steps;
 
-    for (int i = 1; i <= INCREMENT_FACTOR; i++) {
-      commandsToBeExecuted.add(allTurtleInformation.get(currentID).getxCoord() + xIncrement * i);
-      commandsToBeExecuted.add(allTurtleInformation.get(currentID).getyCoord() + yIncrement * i);
-      typeToBeUpdated.add("Positions");
+    for (int i = 1; i <= steps; i++) {
+      turtleEvents.add(TurtleEventQueue.POSITION,
+          allTurtleInformation.get(currentID).getxCoord() + xIncrement * i,
+          allTurtleInformation.get(currentID).getyCoord() + yIncrement * i);
     }
 
     allTurtleInformation.get(currentID).setxCoord(x);
     allTurtleInformation.get(currentID).setyCoord(y);
   }
 
+  /**
+   * Purpose: Chooses whether moves are split into steps to animate them, or queued as a single
+   *          move to their end point.
+   * Assumptions: None
+   * Parameters: boolean instant
+   * Exception: None
+   */
+  public void setInstantRender(boolean instant) {
+    instantRender = instant;
+  }
+
   private void createLine(double x, double y, Paint penColor) {
-    Line line1 = new Line(allTurtleInformation.get(currentID).getTurtle().getX() + TURTLE_WIDTH / 2,
+    penTrails.drawLine(allTurtleInformation.get(currentID).getTurtle().getX() + TURTLE_WIDTH / 2,
         allTurtleInformation.get(currentID).getTurtle().getY() + TURTLE_WIDTH / 2,
-        x + TURTLE_HEIGHT / 2, y + TURTLE_HEIGHT / 2);
-    line1.setStroke(penColor);
-    line1.setId(LINE_ID);
-    line1.setStrokeWidth(allTurtleInformation.get(currentID).getPenThickness());
-    turtleViewPane.getChildren().add(line1);
+        x + TURTLE_HEIGHT / 2, y + TURTLE_HEIGHT / 2, penColor,
+        allTurtleInformation.get(currentID).getPenThickness());
+  }
+
+  // makes the pen trails named in the default preferences, drawing into a canvas if the name
+  // can't be found
+  private PenTrails createPenTrails() {
+    try {
+      String className = ResourceBundle.getBundle(PREFERENCES).getString(PEN_TRAILS_KEY);
+      return (PenTrails) Class.forName(TurtleDisplayPane.class.getPackageName() + "." + className)
+          .getDeclaredConstructor(Pane.class, double.class, double.class)
+          .newInstance(turtleViewPane, rows, cols);
+    } catch (Exception e) {
+      return new CanvasPenTrails(turtleViewPane, rows, cols);
+    }
   }
 
   /**
@@ -232,10 +296,10 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
    * Exception: None
    */
   public void clearScreen() {
-    commandsToBeExecuted.clear();
-    typeToBeUpdated.clear();
+    turtleEvents.clear();
 
     turtleViewPane.getChildren().clear();
+    penTrails.clear();
     for (Map.Entry<Integer, FrontEndSprite> entry : allTurtleInformation.entrySet()) {
       createTurtle(entry.getKey());
     }
@@ -266,14 +330,33 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
   }
 
   /**
-   * Purpose:
-   * Assumptions:
-   * Parameters:
+   * Purpose: Adds an update to the queue by the name of its type. Updates the display does not
+   *          animate, or with the wrong number of values, are left out.
+   * Assumptions: None
+   * Parameters: String commandType, List<Double> commandValues
    * Exception: None
    */
   public void updateCommandQueue(String commandType, List<Double> commandValues) {
-    typeToBeUpdated.add(commandType);
-    commandsToBeExecuted.addAll(commandValues);
+    int opcode = TurtleEventQueue.opcodeOf(commandType);
+    if (opcode == -1 || commandValues.size() != TurtleEventQueue.valueCount(opcode)) {
+      return;
+    }
+    if (commandValues.size() == 1) {
+      turtleEvents.add(opcode, commandValues.get(0));
+    } else {
+      turtleEvents.add(opcode, commandValues.get(0), commandValues.get(1));
+    }
+  }
+
+  /**
+   * Purpose: Gives the queue of turtle updates waiting to be animated, so updates can be added
+   *          to it directly without boxing their values.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  public TurtleEventQueue getTurtleEvents() {
+    return turtleEvents;
   }
 
   /**
@@ -300,24 +383,35 @@ public class TurtleDisplayPane implements FrontEndInternalAPI {
     }
 
     currentID = turtleID;
-    commandsToBeExecuted.add((double) turtleID);
-    typeToBeUpdated.add("SetID");
+    turtleEvents.add(TurtleEventQueue.SET_ID, turtleID);
 
   }
 
   /**
-   * Purpose:
-   * Assumptions:
-   * Parameters:
+   * Purpose: Shows which turtles are active by giving the active ones the active sprite of the
+   *          current shape and the rest the inactive sprite.
+   * Assumptions: None
+   * Parameters: List<Integer> iDs
    * Exception: None
    */
   public void setActiveTurtles(List<Integer> iDs) {
-    for (Integer turtleID : allTurtleInformation.keySet().toArray(new Integer[0])) {
-      if (iDs.contains(turtleID)) {
-        allTurtleInformation.get(turtleID).getTurtle().setImage(new Image(turtleImageFile));
-      } else {
-        allTurtleInformation.get(turtleID).getTurtle().setImage(new Image(inactiveTurtleImageFile));
+    activeTurtleIDs = new HashSet<>(iDs);
+    updateSprites();
+  }
+
+  // the sprites are shared, so a turtle whose sprite is already right is left alone
+  private void updateSprites() {
+    for (Map.Entry<Integer, FrontEndSprite> entry : allTurtleInformation.entrySet()) {
+      Image sprite = SpriteCache.forShape(shape, isActive(entry.getKey()));
+      ImageView turtle = entry.getValue().getTurtle();
+      if (turtle.getImage() != sprite) {
+        turtle.setImage(sprite);
       }
     }
   }
-}
\ No newline at end of file
+
+  // every turtle is active until the model says which ones are
+  private boolean isActive(int turtleID) {
+    return activeTurtleIDs == null || activeTurtleIDs.contains(turtleID);
+  }
+}
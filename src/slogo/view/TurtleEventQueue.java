@@ -0,0 +1,188 @@
+package slogo.view;
+
+/**
+ * Holds the turtle updates waiting to be animated, in the order they were sent. Each update is an
+ * opcode saying what changed followed by its values, stored in growable ring buffers of ints and
+ * doubles so adding and removing updates doesn't box values or make any objects.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+public class TurtleEventQueue {
+
+  public static final int POSITION = 0;
+  public static final int ANGLE = 1;
+  public static final int PEN = 2;
+  public static final int VISIBILITY = 3;
+  public static final int SET_ID = 4;
+  public static final int THICKNESS = 5;
+  public static final int SHAPE = 6;
+
+  private static final String[] TYPES = {"Positions", "Angles", "Pen", "Visibility", "SetID",
+      "Thickness", "Shape"};
+  public static final int OPCODE_COUNT = TYPES.length;
+  private static final int[] VALUE_COUNTS = {2, 1, 1, 1, 1, 1, 1};
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private int[] opcodes;
+  private int opcodeHead;
+  private int opcodeCount;
+  private double[] values;
+  private int valueHead;
+  private int valueCount;
+
+  /**
+   * Purpose: Creates an empty queue.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  public TurtleEventQueue() {
+    opcodes = new int[INITIAL_CAPACITY];
+    values = new double[INITIAL_CAPACITY * 2];
+  }
+
+  /**
+   * Purpose: Finds the opcode of an update from the name the display used for it.
+   * Assumptions: None
+   * Parameters: String type
+   * Exception: None
+   * @return the opcode, or -1 if there is no update with that name
+   */
+  public static int opcodeOf(String type) {
+    for (int i = 0; i < TYPES.length; i++) {
+      if (TYPES[i].equals(type)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Purpose: Gives the name of an update, matching the keys of the update actions resource file.
+   * Assumptions: The opcode is one of the constants of this class
+   * Parameters: int opcode
+   * Exception: None
+   */
+  public static String typeOf(int opcode) {
+    return TYPES[opcode];
+  }
+
+  /**
+   * Purpose: Gives how many values follow an update with this opcode.
+   * Assumptions: The opcode is one of the constants of this class
+   * Parameters: int opcode
+   * Exception: None
+   */
+  public static int valueCount(int opcode) {
+    return VALUE_COUNTS[opcode];
+  }
+
+  /**
+   * Purpose: Adds an update that has one value.
+   * Assumptions: The opcode takes one value
+   * Parameters: int opcode, double value
+   * Exception: None
+   */
+  public void add(int opcode, double value) {
+    addOpcode(opcode);
+    addValue(value);
+  }
+
+  /**
+   * Purpose: Adds an update that has two values, like a position.
+   * Assumptions: The opcode takes two values
+   * Parameters: int opcode, double first, double second
+   * Exception: None
+   */
+  public void add(int opcode, double first, double second) {
+    addOpcode(opcode);
+    addValue(first);
+    addValue(second);
+  }
+
+  /**
+   * Purpose: Tells whether any updates are waiting.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  public boolean isEmpty() {
+    return opcodeCount == 0;
+  }
+
+  /**
+   * Purpose: Removes the oldest update. Its values are then read in order with nextValue.
+   * Assumptions: The queue is not empty
+   * Parameters: None
+   * Exception: None
+   * @return the opcode of the update
+   */
+  public int next() {
+    int opcode = opcodes[opcodeHead];
+    opcodeHead = (opcodeHead + 1) % opcodes.length;
+    opcodeCount--;
+    return opcode;
+  }
+
+  /**
+   * Purpose: Removes the next value of the update last removed with next.
+   * Assumptions: The update has a value that has not been read yet
+   * Parameters: None
+   * Exception: None
+   */
+  public double nextValue() {
+    double value = values[valueHead];
+    valueHead = (valueHead + 1) % values.length;
+    valueCount--;
+    return value;
+  }
+
+  /**
+   * Purpose: Removes every waiting update.
+   * Assumptions: None
+   * Parameters: None
+   * Exception: None
+   */
+  public void clear() {
+    opcodeHead = 0;
+    opcodeCount = 0;
+    valueHead = 0;
+    valueCount = 0;
+  }
+
+  private void addOpcode(int opcode) {
+    if (opcodeCount == opcodes.length) {
+      opcodes = grow(opcodes, opcodeHead, opcodeCount);
+      opcodeHead = 0;
+    }
+    opcodes[(opcodeHead + opcodeCount) % opcodes.length] = opcode;
+    opcodeCount++;
+  }
+
+  private void addValue(double value) {
+    if (valueCount == values.length) {
+      values = grow(values, valueHead, valueCount);
+      valueHead = 0;
+    }
+    values[(valueHead + valueCount) % values.length] = value;
+    valueCount++;
+  }
+
+  // copies the ring into a buffer twice as big, starting at index 0
+  private int[] grow(int[] ring, int head, int count) {
+    int[] bigger = new int[ring.length * 2];
+    for (int i = 0; i < count; i++) {
+      bigger[i] = ring[(head + i) % ring.length];
+    }
+    return bigger;
+  }
+
+  private double[] grow(double[] ring, int head, int count) {
+    double[] bigger = new double[ring.length * 2];
+    for (int i = 0; i < count; i++) {
+      bigger[i] = ring[(head + i) % ring.length];
+    }
+    return bigger;
+  }
+}
@@ -13,6 +13,7 @@ import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Slider;
 import javafx.scene.control.TextArea;
@@ -33,6 +34,7 @@ public class UserCommandPane {
   private static final String BUTTON = "regular-button";
   private static final String FILE_PATH = "src/slogo/view/resources/reference";
   private static final String COMBO_BOX = "combo-box";
+  private static final String INSTANT_RENDER = "InstantRender";
   private static final String DEFAULT_RESOURCES =
       HistoryDisplayPane.class.getPackageName() + ".resources.";
   private static final String REFLECTION_RESOURCE =
@@ -46,6 +48,7 @@ public class UserCommandPane {
   private ComboBox<String> helpDropDownBoxWithInformationAboutCommands;
   private Node helpButton;
   private Slider sliderToControlTurtleSpeed;
+  private CheckBox instantRenderBox;
   private ResourceBundle idsForTesting;
   private ResourceBundle reflectionResource;
   private ResourceBundle buttonLanguageResource;
@@ -72,6 +75,7 @@ public class UserCommandPane {
     addTextArea();
     createButtons();
     createSlider();
+    createInstantRenderBox();
   }
 
   private void createSlider() {
@@ -79,13 +83,38 @@ public class UserCommandPane {
     bottomPaneBoxArea.add(sliderToControlTurtleSpeed, 5, 0);
   }
 
+  // keeps the box checked or unchecked when the pane is remade for a new language
+  private void createInstantRenderBox() {
+    boolean selected = instantRenderBox != null && instantRenderBox.isSelected();
+    instantRenderBox = new CheckBox(buttonLanguageResource.getString(INSTANT_RENDER));
+    instantRenderBox.setId(idsForTesting.getString(INSTANT_RENDER));
+    instantRenderBox.setSelected(selected);
+    instantRenderBox.setOnAction(
+        event -> viewController.setInstantRender(instantRenderBox.isSelected()));
+    bottomPaneBoxArea.add(instantRenderBox, 6, 0);
+  }
+
   /**
-   * Purpose:
-   * Assumptions:
-   * Parameters:
+   * Purpose: Checks or unchecks the instant render box to match the display.
+   * Assumptions: None
+   * Parameters: boolean instant
+   * Exception: None
+   */
+  public void setInstantRender(boolean instant) {
+    instantRenderBox.setSelected(instant);
+  }
+
+  /**
+   * Purpose: Gives the number of turtle updates to animate per second. With the slider all the way
+   *          up there is no limit.
+   * Assumptions: None
+   * Parameters: None
    * Exception: None
    */
   public double getAnimationSpeed() {
+    if (sliderToControlTurtleSpeed.getValue() >= sliderToControlTurtleSpeed.getMax()) {
+      return Double.POSITIVE_INFINITY;
+    }
     return sliderToControlTurtleSpeed.getValue();
   }
 
@@ -215,5 +244,6 @@ public class UserCommandPane {
     addTextArea();
     createButtons();
     createSlider();
+    createInstantRenderBox();
   }
 }
\ No newline at end of file
@@ -64,6 +64,16 @@ public class ViewPane implements FrontEndInternalAPI {
     turtleDisplay.moveTurtle(xCoordinate, yCoordinate, choiceDisplay.getPenColor());
   }
 
+  /**
+   * Purpose: Tells the turtle display whether to draw moves right away instead of animating them
+   * Assumptions: None
+   * Parameters: boolean instant
+   * Exception: None
+   */
+  public void setInstantRender(boolean instant) {
+    turtleDisplay.setInstantRender(instant);
+  }
+
   /**
    * Purpose: Returns the GridPane to the ScreenCreator to build the final screen
    * Assumptions: None
@@ -89,6 +99,10 @@ public class ViewPane implements FrontEndInternalAPI {
     turtleDisplay.updateTurtleStates();
   }
 
+  public int updateTurtleStates(int eventCount) {
+    return turtleDisplay.updateTurtleStates(eventCount);
+  }
+
   /**
    * Purpose:
    * Assumptions:
@@ -99,6 +113,10 @@ public class ViewPane implements FrontEndInternalAPI {
     turtleDisplay.updateCommandQueue(commandType, commandValues);
   }
 
+  public TurtleEventQueue getTurtleEvents() {
+    return turtleDisplay.getTurtleEvents();
+  }
+
   /**
    * Purpose: Clears the turtle view screen of the drawn lines and returns the turtle
    *          to the center of the display.
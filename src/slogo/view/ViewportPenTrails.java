@@ -0,0 +1,290 @@
+package slogo.view;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+
+/**
+ * Draws pen trails into square tiles that cover the turtle display. The trails can be zoomed with
+ * the scroll wheel and panned by dragging, and go back to the whole drawing on a double click.
+ * Every stroke is kept in a spatial index, and each tile, once drawn, is cached along with how
+ * many strokes it has drawn. Panning only moves the tiles, and only the tiles that come into view
+ * are drawn. A new stroke is drawn only into the visible tiles it crosses. A cached tile that was
+ * out of view draws the strokes it missed when it is shown again, and zooming back to a zoom level
+ * shows the tiles cached at that level. The turtles are moved and scaled with the same view so
+ * they stay on their trails.
+ *
+ * @author Kathleen Chen
+ * @author Ji Yun Hyo
+ */
+class ViewportPenTrails implements PenTrails {
+
+  private static final String TRAILS_ID = "PenTrails";
+  private static final String TILE_STYLE = "PenTile";
+  private static final double CELL_SIZE = 32;
+  private static final int TILE_SIZE = 128;
+  private static final int MAX_CACHED_TILES = 192;
+  private static final double ZOOM_STEP = Math.pow(2, 0.25);
+  private static final int MAX_ZOOM_LEVEL = 40;
+  private static final int COORDINATE_BITS = 28;
+  private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+
+  private final Pane turtleViewPane;
+  private final Group tileLayer;
+  private final SegmentIndex segments;
+  private final Affine viewTransform;
+  private final Map<Long, Tile> tiles;
+  private final List<Tile> visibleTiles;
+  private int zoomLevel;
+  private double zoom = 1;
+  private double viewX;
+  private double viewY;
+  private double dragX;
+  private double dragY;
+
+  /**
+   * Purpose: Creates the layer of tiles, puts it behind everything else in the turtle display, and
+   *          starts listening for zooming and panning over the display and for it changing size.
+   * Assumptions: None
+   * Parameters: Pane turtleViewPane, double width, double height
+   * Exception: None
+   */
+  ViewportPenTrails(Pane turtleViewPane, double width, double height) {
+    this.turtleViewPane = turtleViewPane;
+    tileLayer = new Group();
+    tileLayer.setId(TRAILS_ID);
+    tileLayer.setMouseTransparent(true);
+    segments = new SegmentIndex(CELL_SIZE);
+    viewTransform = new Affine();
+    tiles = new LinkedHashMap<>(MAX_CACHED_TILES, 0.75f, true);
+    visibleTiles = new ArrayList<>();
+    Rectangle clip = new Rectangle(width, height);
+    clip.widthProperty().bind(turtleViewPane.widthProperty());
+    clip.heightProperty().bind(turtleViewPane.heightProperty());
+    turtleViewPane.setClip(clip);
+    for (Node node : turtleViewPane.getChildren()) {
+      followView(node);
+    }
+    turtleViewPane.getChildren().addListener((ListChangeListener<Node>) change -> {
+      while (change.next()) {
+        change.getAddedSubList().forEach(this::followView);
+      }
+    });
+    turtleViewPane.getChildren().add(0, tileLayer);
+    turtleViewPane.widthProperty().addListener((property, before, after) -> showVisibleTiles());
+    turtleViewPane.heightProperty().addListener((property, before, after) -> showVisibleTiles());
+    turtleViewPane.addEventHandler(ScrollEvent.SCROLL, this::zoom);
+    turtleViewPane.addEventHandler(MouseEvent.MOUSE_PRESSED, this::startDrag);
+    turtleViewPane.addEventHandler(MouseEvent.MOUSE_DRAGGED, this::drag);
+    turtleViewPane.addEventHandler(MouseEvent.MOUSE_CLICKED, this::resetView);
+    showVisibleTiles();
+  }
+
+  @Override
+  public void drawLine(double startX, double startY, double endX, double endY, Paint penColor,
+      double thickness) {
+    int segment = segments.add(startX, startY, endX, endY, penColor, thickness);
+    double reach = thickness / 2;
+    for (Tile tile : visibleTiles) {
+      if (tile.overlaps(Math.min(startX, endX) - reach, Math.min(startY, endY) - reach,
+          Math.max(startX, endX) + reach, Math.max(startY, endY) + reach)) {
+        tile.strokeSegment(segment);
+      }
+      tile.drawnUpTo = segment + 1;
+    }
+  }
+
+  @Override
+  public void clear() {
+    segments.clear();
+    tiles.clear();
+    tileLayer.getChildren().clear();
+    visibleTiles.clear();
+    if (!turtleViewPane.getChildren().contains(tileLayer)) {
+      turtleViewPane.getChildren().add(0, tileLayer);
+    }
+    showVisibleTiles();
+  }
+
+  /**
+   * Purpose: Moves the view so the drawing point at the top left of the display is at viewX,
+   *          viewY and drawing lengths are multiplied by the zoom of the zoom level, then shows
+   *          the tiles that are in view.
+   * Assumptions: None
+   * Parameters: int zoomLevel, double viewX, double viewY
+   * Exception: None
+   */
+  void setView(int zoomLevel, double viewX, double viewY) {
+    this.zoomLevel = Math.max(0, Math.min(MAX_ZOOM_LEVEL, zoomLevel));
+    zoom = Math.pow(ZOOM_STEP, this.zoomLevel);
+    this.viewX = viewX;
+    this.viewY = viewY;
+    viewTransform.setToTransform(zoom, 0, -viewX * zoom, 0, zoom, -viewY * zoom);
+    tileLayer.setTranslateX(-viewX * zoom);
+    tileLayer.setTranslateY(-viewY * zoom);
+    showVisibleTiles();
+  }
+
+  // puts the tiles covering the display in the tile layer, taking them from the cache or drawing
+  // them if they aren't cached, and brings each one up to date with the strokes it missed
+  private void showVisibleTiles() {
+    long firstColumn = tileOf(viewX * zoom);
+    long firstRow = tileOf(viewY * zoom);
+    long lastColumn = tileOf(viewX * zoom + turtleViewPane.getWidth());
+    long lastRow = tileOf(viewY * zoom + turtleViewPane.getHeight());
+    List<Tile> nowVisible = new ArrayList<>();
+    for (long column = firstColumn; column <= lastColumn; column++) {
+      for (long row = firstRow; row <= lastRow; row++) {
+        Tile tile = tiles.get(key(zoomLevel, column, row));
+        if (tile == null) {
+          tile = new Tile(zoomLevel, column, row);
+          tiles.put(key(zoomLevel, column, row), tile);
+        }
+        tile.catchUp();
+        nowVisible.add(tile);
+      }
+    }
+    visibleTiles.clear();
+    visibleTiles.addAll(nowVisible);
+    tileLayer.getChildren().clear();
+    for (Tile tile : visibleTiles) {
+      tileLayer.getChildren().add(tile.canvas);
+    }
+    evictTiles();
+  }
+
+  // drops the least recently shown tiles once more are cached than the limit, never dropping a
+  // tile that is in view
+  private void evictTiles() {
+    int limit = Math.max(MAX_CACHED_TILES, visibleTiles.size());
+    Iterator<Tile> leastRecent = tiles.values().iterator();
+    while (tiles.size() > limit && leastRecent.hasNext()) {
+      if (!visibleTiles.contains(leastRecent.next())) {
+        leastRecent.remove();
+      }
+    }
+  }
+
+  private long tileOf(double zoomedCoordinate) {
+    return (long) Math.floor(zoomedCoordinate / TILE_SIZE);
+  }
+
+  private long key(int level, long column, long row) {
+    return ((long) level << (2 * COORDINATE_BITS))
+        | ((column & COORDINATE_MASK) << COORDINATE_BITS) | (row & COORDINATE_MASK);
+  }
+
+  // keeps the point under the mouse in the same place while zooming around it
+  private void zoom(ScrollEvent event) {
+    if (event.getDeltaY() == 0) {
+      return;
+    }
+    int nextLevel = Math.max(0, Math.min(MAX_ZOOM_LEVEL,
+        zoomLevel + (int) Math.signum(event.getDeltaY())));
+    double nextZoom = Math.pow(ZOOM_STEP, nextLevel);
+    double pointX = viewX + event.getX() / zoom;
+    double pointY = viewY + event.getY() / zoom;
+    setView(nextLevel, pointX - event.getX() / nextZoom, pointY - event.getY() / nextZoom);
+    event.consume();
+  }
+
+  private void startDrag(MouseEvent event) {
+    dragX = event.getX();
+    dragY = event.getY();
+  }
+
+  private void drag(MouseEvent event) {
+    setView(zoomLevel, viewX - (event.getX() - dragX) / zoom,
+        viewY - (event.getY() - dragY) / zoom);
+    dragX = event.getX();
+    dragY = event.getY();
+  }
+
+  private void resetView(MouseEvent event) {
+    if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+      setView(0, 0, 0);
+    }
+  }
+
+  // everything in the display except the trails is moved with the view
+  private void followView(Node node) {
+    if (node != tileLayer && !node.getTransforms().contains(viewTransform)) {
+      node.getTransforms().add(viewTransform);
+    }
+  }
+
+  /**
+   * One square of the trails at one zoom level, and how many of the strokes it has drawn.
+   */
+  private class Tile {
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final double tileZoom;
+    private final double left;
+    private final double top;
+    private int drawnUpTo;
+
+    private Tile(int level, long column, long row) {
+      canvas = new Canvas(TILE_SIZE, TILE_SIZE);
+      canvas.getStyleClass().add(TILE_STYLE);
+      canvas.setLayoutX(column * TILE_SIZE);
+      canvas.setLayoutY(row * TILE_SIZE);
+      graphics = canvas.getGraphicsContext2D();
+      tileZoom = Math.pow(ZOOM_STEP, level);
+      left = column * TILE_SIZE / tileZoom;
+      top = row * TILE_SIZE / tileZoom;
+    }
+
+    // draws the strokes made since this tile was last brought up to date
+    private void catchUp() {
+      if (drawnUpTo == segments.size()) {
+        return;
+      }
+      double reach = segments.getMaxThickness() / 2;
+      int from = drawnUpTo;
+      segments.forEachIn(left - reach, top - reach, right() + reach, bottom() + reach,
+          segment -> {
+            if (segment >= from) {
+              strokeSegment(segment);
+            }
+          });
+      drawnUpTo = segments.size();
+    }
+
+    private boolean overlaps(double minX, double minY, double maxX, double maxY) {
+      return maxX >= left && minX <= right() && maxY >= top && minY <= bottom();
+    }
+
+    private double right() {
+      return left + TILE_SIZE / tileZoom;
+    }
+
+    private double bottom() {
+      return top + TILE_SIZE / tileZoom;
+    }
+
+    private void strokeSegment(int segment) {
+      graphics.setStroke(segments.getColor(segment));
+      graphics.setLineWidth(segments.getThickness(segment) * tileZoom);
+      graphics.strokeLine((segments.getStartX(segment) - left) * tileZoom,
+          (segments.getStartY(segment) - top) * tileZoom,
+          (segments.getEndX(segment) - left) * tileZoom,
+          (segments.getEndY(segment) - top) * tileZoom);
+    }
+  }
+}
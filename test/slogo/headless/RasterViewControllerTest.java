@@ -0,0 +1,54 @@
+package slogo.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.ModelController;
+
+/**
+ * Tests that programs run with the headless front end draw their pen trails into the picture
+ */
+public class RasterViewControllerTest {
+
+  private static final int BLACK = 0x000000;
+  private static final int RED = 0xff0000;
+  private static final int BACKGROUND = 0xd3d3d3;
+
+  private RasterViewController viewController;
+
+  @BeforeEach
+  void setUp() {
+    viewController = new RasterViewController();
+    BackEndExternalAPI modelController = new ModelController();
+    viewController.setModelController(modelController);
+    modelController.setViewController(viewController);
+  }
+
+  @Test
+  void testDrawsTrail() {
+    viewController.processUserCommandInput("fd 50 pu fd 50");
+    BufferedImage image = viewController.getImage();
+    int centerX = image.getWidth() / 2;
+    int centerY = image.getHeight() / 2;
+    assertEquals(BLACK, pixel(image, centerX, centerY - 25));
+    assertEquals(BACKGROUND, pixel(image, centerX, centerY - 75));
+    assertEquals(BACKGROUND, pixel(image, centerX + 25, centerY));
+  }
+
+  @Test
+  void testPaletteAndClearScreen() {
+    viewController.processUserCommandInput("setpalette 20 255 0 0 setpc 20 rt 90 fd 50");
+    BufferedImage image = viewController.getImage();
+    assertEquals(RED, pixel(image, image.getWidth() / 2 + 25, image.getHeight() / 2));
+    viewController.processUserCommandInput("cs");
+    image = viewController.getImage();
+    assertEquals(BACKGROUND, pixel(image, image.getWidth() / 2 + 25, image.getHeight() / 2));
+  }
+
+  private int pixel(BufferedImage image, int x, int y) {
+    return image.getRGB(x, y) & 0xffffff;
+  }
+}
@@ -0,0 +1,49 @@
+package slogo.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.ModelController;
+
+/**
+ * Tests that the SVG front end writes pen trails as paths, joining lines that carry on in the same
+ * direction
+ */
+public class SvgViewControllerTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testMergesCollinearSegments() throws IOException {
+    String svg = render("fd 10 fd 10 fd 10 rt 90 fd 5 fd 5");
+    assertTrue(svg.contains("d=\"M350 300L350 270L360 270\""), svg);
+  }
+
+  @Test
+  void testNewPathForNewPen() throws IOException {
+    String svg = render("fd 10 setpensize 3 fd 10 pu fd 10 pd fd 10");
+    assertTrue(svg.contains("stroke-width=\"1\" stroke-linecap=\"round\" stroke-linejoin=\"round\" "
+        + "d=\"M350 300L350 290\""), svg);
+    assertTrue(svg.contains("stroke-width=\"3\" stroke-linecap=\"round\" stroke-linejoin=\"round\" "
+        + "d=\"M350 290L350 280M350 270L350 260\""), svg);
+    assertEquals(2, svg.split("<path").length - 1);
+  }
+
+  private String render(String program) throws IOException {
+    Path file = directory.resolve("drawing.svg");
+    try (SvgViewController viewController = new SvgViewController(file)) {
+      BackEndExternalAPI modelController = new ModelController();
+      viewController.setModelController(modelController);
+      modelController.setViewController(viewController);
+      viewController.processUserCommandInput(program);
+    }
+    return Files.readString(file);
+  }
+}
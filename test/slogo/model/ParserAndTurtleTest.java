@@ -51,6 +51,50 @@ public class ParserAndTurtleTest {
     verifyTurtleParameters(2, 100, 0, 0, 1, 1);
   }
 
+  /**
+   * Control flow in an ask block reads whichever turtle is active, so a block that reads turtles
+   * outside the arguments of turtle commands must do the same thing whether or not there are
+   * enough turtles to split them between threads
+   */
+  @Test
+  void testAskReadingTurtlesSameWithManyTurtles(){
+    String[] blocks = {"[ if greater? ycor 50 [ fd 10 ] ]", "[ repeat ycor [ fd 1 ] ]",
+        "[ fd sum ycor 1 rt xcor ]"};
+    for (String block : blocks) {
+      double[][] few = askAllTurtles(10, block);
+      double[][] many = askAllTurtles(1000, block);
+      for (int ID = 1; ID <= 10; ID++) {
+        assertEquals(few[0][ID], many[0][ID], TOLERANCE);
+        assertEquals(few[1][ID], many[1][ID], TOLERANCE);
+      }
+      for (int ID = 11; ID <= 1000; ID++) {
+        assertEquals(many[0][2], many[0][ID], TOLERANCE);
+        assertEquals(many[1][2], many[1][ID], TOLERANCE);
+      }
+    }
+  }
+
+  // Moves turtle 1 up, then asks every turtle to run the block, giving back the y position and
+  // angle of each turtle by ID
+  private double[][] askAllTurtles(int turtles, String block){
+    BackEndExternalAPI modelController = new ModelController();
+    modelController.setViewController(new DummyViewController());
+    CommandInformationBundle bundle = new CommandInformationBundle(modelController);
+    CommandExecutor executor = new SLogoCommandExecutor(modelController, bundle);
+    StringBuilder IDs = new StringBuilder();
+    for (int ID = 1; ID <= turtles; ID++) {
+      IDs.append(ID).append(" ");
+    }
+    executor.executeCommand("tell [ " + IDs + "] tell [ 1 ] fd 60", "English");
+    executor.executeCommand("ask [ " + IDs + "] " + block, "English");
+    double[][] state = new double[2][turtles + 1];
+    for (int ID = 1; ID <= turtles; ID++) {
+      state[0][ID] = bundle.getTurtleInformation().getTurtle(ID).getYPosition();
+      state[1][ID] = bundle.getTurtleInformation().getTurtle(ID).getAngle();
+    }
+    return state;
+  }
+
   @Test
   void testNestedAskTell(){
     executeCommand("ask [ 1 2 3 ] "
@@ -178,6 +222,62 @@ public class ParserAndTurtleTest {
     assertEquals(5, getYCoordinate(8));
   }
 
+  /**
+   * A user defined command that calls itself, with a variable that changes inside of a loop
+   */
+  @Test
+  void testRecursiveCommandInLoop(){
+    executeCommand("to spiral [ :n ] [ if greater? :n 0 [ fd :n rt 90 spiral difference :n 10 ] ] "
+        + "make :step 0 repeat 2 [ make :step sum :step 10 ] spiral :step");
+    assertEquals(20, USER_INFO.getVariable(":step"), TOLERANCE);
+    verifyTurtleParameters(1, 10, 20, 270, 1, 1);
+  }
+
+  /**
+   * A parameter hides a variable with the same name only while its loop is running, and nested
+   * loops using the same name get the outer value back when they finish
+   */
+  @Test
+  void testParameterScope(){
+    executeCommand("make :i 100 for [ :i 1 2 1 ] [ dotimes [ :i 3 ] [ fd 1 ] fd :i ] fd :i");
+    assertEquals(109, getYCoordinate(1), TOLERANCE);
+  }
+
+  /**
+   * A recursive command can go deep, and going past the maximum call depth is a clean error
+   */
+  @Test
+  void testDeepRecursion(){
+    String climb = "to climb [ :n ] [ if greater? :n 0 [ climb difference :n 1 fd 1 ] ] ";
+    executeCommand(climb + "climb 1000");
+    assertEquals(1000, getYCoordinate(1), TOLERANCE);
+    String error = null;
+    try {
+      badCommand(climb + "climb 100000");
+    }catch (Exception e){
+      error = e.getMessage();
+    }
+    assertEquals("RecursionTooDeep", error);
+    double height = getYCoordinate(1);
+    executeCommand(climb + "make :n 5 climb 10 fd :n");
+    assertEquals(height + 15, getYCoordinate(1), TOLERANCE);
+  }
+
+  /**
+   * A command that calls itself as its last command runs as a loop, so it can go past the maximum
+   * call depth. Turtles told inside an if before the call stay active for the next pass
+   */
+  @Test
+  void testTailRecursion(){
+    executeCommand("to walk [ :n ] [ if greater? :n 0 [ fd 1 walk difference :n 1 ] ] walk 100000");
+    assertEquals(100000, getYCoordinate(1), TOLERANCE);
+    executeCommand("to hop [ :n ] [ ifelse greater? :n 1 [ tell [ :n ] fd :n hop difference :n 1 ] "
+        + "[ fd 1 ] ] hop 3 fd 7");
+    assertEquals(100007, getYCoordinate(1), TOLERANCE);
+    assertEquals(3, getYCoordinate(2), TOLERANCE);
+    assertEquals(3, getYCoordinate(3), TOLERANCE);
+  }
+
   /**
    * Tests the invalid variable name command
    */
@@ -1,6 +1,7 @@
 package slogo.model.commandParser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,7 +11,10 @@ import org.junit.jupiter.api.Test;
 import slogo.ErrorHandler;
 import slogo.controller.ModelController;
 import slogo.model.parse.CommandParser;
+import slogo.model.parse.Grammar;
 import slogo.model.parse.InputCleaner;
+import slogo.model.parse.Lexeme;
+import slogo.model.parse.Lexer;
 
 public class CleanInputTest {
 
@@ -155,6 +159,50 @@ public class CleanInputTest {
     assertEquals(expected, cleaner.parseResults());
   }
 
+  /**
+   * Test that switching languages back and forth reuses the grammar made for each language
+   */
+  @Test
+  void testGrammarShared() {
+    Grammar english = Grammar.forLanguage("English");
+    assertEquals(Arrays.asList("Forward", "50"), makeInputCleaner("fd 50", "English").parseResults());
+    assertEquals(Arrays.asList("Forward", "50"), makeInputCleaner("qj 50", "Chinese").parseResults());
+    assertSame(english, Grammar.forLanguage("English"));
+    assertSame(Grammar.forLanguage("Chinese"), Grammar.forLanguage("Chinese"));
+  }
+
+  /**
+   * Test that words are translated in any case, including escaped symbols and question marks
+   */
+  @Test
+  void testTranslateSpellings() {
+    Grammar english = Grammar.forLanguage("English");
+    assertEquals("Forward", english.translate("FD"));
+    assertEquals("Sum", english.translate("+"));
+    assertEquals("LessThan", english.translate("Less?"));
+    assertEquals(null, english.translate("less"));
+    assertEquals("LessThan", Grammar.forLanguage("French").translate("INFERIEUR?"));
+    assertEquals(Arrays.asList("Sum", "1", "2"), makeInputCleaner("SuM 1 2", "English").parseResults());
+  }
+
+  /**
+   * Test that the lexer finds every word and where it is, with comments ending a word and running
+   * to the end of the line or the end of the input
+   */
+  @Test
+  void testLexerOffsets() {
+    Lexer lexer = new Lexer("fd 50#move\n\t:x [ # last");
+    List<String> words = new ArrayList<>();
+    List<Integer> starts = new ArrayList<>();
+    for (Lexeme word = lexer.next(); word != null; word = lexer.next()) {
+      words.add(word.getType() + " " + word.getText());
+      starts.add(word.getStart());
+    }
+    assertEquals(Arrays.asList("Command fd", "Constant 50", "Variable :x", "ListStart ["), words);
+    assertEquals(Arrays.asList(0, 3, 12, 15), starts);
+    assertEquals(Arrays.asList("Forward", "50"), makeInputCleaner("fd 50 # no newline", "English").parseResults());
+  }
+
 
 
   private InputCleaner makeInputCleaner(String userInput, String language) {
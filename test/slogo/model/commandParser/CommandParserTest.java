@@ -1,6 +1,8 @@
 package slogo.model.commandParser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +12,7 @@ import slogo.ErrorHandler;
 import slogo.controller.BackEndExternalAPI;
 import slogo.controller.ModelController;
 import slogo.model.parse.CommandParser;
+import slogo.model.parse.ParseCache;
 import slogo.model.tree.TreeNode;
 
 public class CommandParserTest {
@@ -289,6 +292,34 @@ public class CommandParserTest {
     assertEquals(error, "WrongParamNum");
   }
 
+  /**
+   * Tests that resubmitting a program after an edit keeps the trees of the unchanged commands, and
+   * parses a command again when an edit changes what it means
+   */
+  @Test
+  void testParseCacheReuse() {
+    BackEndExternalAPI modelController = new ModelController();
+    ParseCache cache = new ParseCache();
+    List<TreeNode> before = cache.parse("fd 50 # start\nrt 90\nrepeat 2 [ fd 1 ]", "English",
+        modelController).getChildren();
+    List<TreeNode> after = cache.parse("fd 50 # start\nrt 45\nrepeat 2 [ fd 1 ]", "English",
+        modelController).getChildren();
+    assertEquals(3, after.size());
+    assertSame(before.get(0), after.get(0));
+    assertNotSame(before.get(1), after.get(1));
+    assertEquals("45", after.get(1).getChildren().get(0).getValue());
+    assertSame(before.get(2), after.get(2));
+
+    cache.parse("to jump [ ] [ fd 1 ]\njump fd 2", "English", modelController);
+    after = cache.parse("to jump [ :a ] [ fd :a ]\njump fd 2", "English", modelController)
+        .getChildren();
+    assertEquals(2, after.size());
+    assertEquals(1, after.get(1).getChildren().size());
+
+    cache.parse("fd 5 sum 1 2", "English", modelController);
+    assertEquals(1, cache.parse("fd sum 1 2", "English", modelController).getChildren().size());
+  }
+
 
   private CommandParser makeParser(String userInput, String language) {
     BackEndExternalAPI modelController = new ModelController();
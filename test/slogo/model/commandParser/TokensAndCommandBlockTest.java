@@ -449,7 +449,7 @@ public class TokensAndCommandBlockTest {
     commandParser = new CommandParser(input, language, modelController);
     InputCleaner cleaner = new InputCleaner(input, language, modelController);
     List<String> cleanedString = cleaner.parseResults();
-    return new TokensParser(cleanedString);
+    return new TokensParser(cleanedString, cleaner.getLexemes());
   }
 
   private List<String> tokensToString(List<Token> tokens) {
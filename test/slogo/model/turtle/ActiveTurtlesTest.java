@@ -0,0 +1,62 @@
+package slogo.model.turtle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import slogo.controller.BackEndExternalAPI;
+import slogo.controller.ModelController;
+import slogo.model.execution.ActiveTurtles;
+import slogo.model.execution.TurtleInformation;
+
+/**
+ * Tests that sets of active turtles keep their IDs in order however they are stored, and that
+ * layers of active turtles only tell the front end when the set changes
+ */
+public class ActiveTurtlesTest {
+
+  @Test
+  void testKeepsOrderAndRepeats() {
+    assertEquals(List.of(3, 4, 5), ActiveTurtles.of(List.of(3, 4, 5)).asList());
+    assertEquals(ActiveTurtles.range(3, 5), ActiveTurtles.of(List.of(3, 4, 5)));
+    assertEquals(List.of(2, 7, 9), ActiveTurtles.of(List.of(2, 7, 9)).asList());
+    ActiveTurtles unordered = ActiveTurtles.of(List.of(5, 1, 5));
+    assertArrayEquals(new int[]{5, 1, 5}, unordered.toArray());
+    assertEquals(3, unordered.size());
+    assertEquals(5, unordered.getHighest());
+    assertNotEquals(ActiveTurtles.of(List.of(1, 5)), unordered);
+    BitSet members = new BitSet();
+    members.set(4);
+    members.set(6);
+    assertEquals(ActiveTurtles.of(List.of(4, 6)), ActiveTurtles.of(members));
+    assertEquals(0, ActiveTurtles.of(new BitSet()).size());
+  }
+
+  @Test
+  void testLayersOnlySendChanges() {
+    int[] activeTurtleSets = new int[1];
+    BackEndExternalAPI modelController = new ModelController();
+    modelController.setViewController(new DummyViewController() {
+      @Override
+      public void setActiveTurtles(List<Integer> iDs) {
+        activeTurtleSets[0]++;
+      }
+    });
+    TurtleInformation turtleInformation = new TurtleInformation(modelController);
+    turtleInformation.setActiveTurtleLayer(List.of(1, 2, 3));
+    assertEquals(1, activeTurtleSets[0]);
+    for (int i = 0; i < 100; i++) {
+      turtleInformation.addActiveTurtleLayer();
+    }
+    turtleInformation.setActiveTurtleLayer(List.of(1, 2, 3));
+    for (int i = 0; i < 100; i++) {
+      turtleInformation.removeActiveTurtleLayer();
+    }
+    assertEquals(1, activeTurtleSets[0]);
+    assertEquals(List.of(1, 2, 3), turtleInformation.getCurrentActiveTurtleList());
+    assertEquals(3, turtleInformation.getNumberOfTurtles());
+  }
+}
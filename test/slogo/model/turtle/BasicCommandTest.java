@@ -560,6 +560,19 @@ public class BasicCommandTest {
     assertEquals(60, turtleInformation.getActiveTurtle().getYPosition(), TOLERANCE);
   }
 
+  /**
+   * Tests that a command can be executed again and uses the new value of its variable
+   */
+  @Test
+  void testReusedCommandReadsVariable() {
+    executeCommand(makeBasicCommand(makeTree("MakeVariable", makeNode(":step"), makeNode("10"))));
+    BasicCommand forward = makeBasicCommand(makeTree("Forward", makeNode(":step")));
+    executeCommand(forward);
+    executeCommand(makeBasicCommand(makeTree("MakeVariable", makeNode(":step"), makeNode("25"))));
+    executeCommand(forward);
+    assertEquals(35, turtleInformation.getActiveTurtle().getYPosition(), TOLERANCE);
+  }
+
   /**
    * Tests the creation and execution of a user defined command
    */
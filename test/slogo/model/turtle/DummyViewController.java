@@ -127,4 +127,9 @@ public class DummyViewController implements FrontEndExternalAPI {
 
   }
 
+  @Override
+  public void setInstantRender(boolean instant) {
+
+  }
+
 }
@@ -1,6 +1,7 @@
 package slogo.model.turtle;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -99,6 +100,60 @@ public class MultipleTurtleTest {
     assertEquals(77, executeCommand(makeBasicCommand(turtles)), TOLERANCE);
   }
 
+  /**
+   * Tests that asking many turtles to run commands that only change themselves, which splits the
+   * turtles between threads, moves each turtle the same as running them one after another
+   */
+  @Test
+  void testAskManyTurtles() {
+    String[] IDs = new String[500];
+    for (int i = 0; i < IDs.length; i++) {
+      IDs[i] = String.valueOf(i + 1);
+    }
+    TreeNode commands = makeTree("CommandBlock", makeTree("Forward", makeNode("ID")),
+        makeTree("Right", "90"), makeTree("Repeat", makeNode("3"),
+            makeTree("CommandBlock", makeTree("Forward", makeNode(":repcount")))));
+    TreeNode ask = makeTree("Ask", makeTree("CommandBlock", IDs), commands);
+    assertEquals(3, executeCommand(makeBasicCommand(ask)), TOLERANCE);
+    for (int ID = 1; ID <= IDs.length; ID++) {
+      turtleInformation.setActiveTurtle(ID);
+      assertEquals(6, turtleInformation.getActiveTurtle().getXPosition(), TOLERANCE);
+      assertEquals(ID, turtleInformation.getActiveTurtle().getYPosition(), TOLERANCE);
+      assertEquals(0, turtleInformation.getActiveTurtle().getAngle(), TOLERANCE);
+    }
+    assertEquals(List.of(1), turtleInformation.getCurrentActiveTurtleList());
+  }
+
+  /**
+   * Tests that askwith with a condition that only reads the turtles finds the right turtles
+   * without telling the front end about every turtle it checks
+   */
+  @Test
+  void testAskWithReadsQuietly() {
+    int[] activeTurtleChanges = new int[1];
+    modelController.setViewController(new DummyViewController() {
+      @Override
+      public void setActiveTurtle(int turtleID) {
+        activeTurtleChanges[0]++;
+      }
+    });
+    TreeNode tell = makeTree("Tell", makeTree("CommandBlock", "1000"));
+    executeCommand(makeBasicCommand(tell));
+    turtleInformation.getTurtleStore().setPosition(new int[]{10, 400, 999}, 0, 300);
+    activeTurtleChanges[0] = 0;
+    TreeNode condition = makeTree("CommandBlock",
+        makeTree("GreaterThan", makeNode("YCoordinate"), makeNode("200")));
+    TreeNode askWith = makeTree("AskWith", condition,
+        makeTree("CommandBlock", makeTree("Right", "90")));
+    executeCommand(makeBasicCommand(askWith));
+    assertEquals(List.of(1000), turtleInformation.getCurrentActiveTurtleList());
+    for (int ID = 1; ID <= 1000; ID++) {
+      double expectedAngle = (ID == 10 || ID == 400 || ID == 999) ? 0 : 90;
+      assertEquals(expectedAngle, turtleInformation.getTurtleStore().getAngle(ID), TOLERANCE);
+    }
+    assertTrue(activeTurtleChanges[0] < 10);
+  }
+
 
   // Helper methods below
 
@@ -0,0 +1,58 @@
+package slogo.model.turtle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import slogo.model.execution.TurtleStore;
+
+/**
+ * Tests that the turtle store starts new turtles at the start position and keeps each turtle's
+ * state as it grows
+ */
+public class TurtleStoreTest {
+
+  @Test
+  void testGrowKeepsState() {
+    TurtleStore store = new TurtleStore();
+    store.addTurtlesUpTo(3);
+    store.setPosition(2, 10, -20);
+    store.setPenState(3, 0);
+    store.addTurtlesUpTo(100000);
+    assertEquals(100000, store.size());
+    assertEquals(10, store.getXPosition(2));
+    assertEquals(-20, store.getYPosition(2));
+    assertEquals(0, store.getPenState(3));
+    assertEquals(90, store.getAngle(100000));
+    assertEquals(1, store.getVisibility(100000));
+    store.addTurtlesUpTo(5);
+    assertEquals(100000, store.size());
+  }
+
+  @Test
+  void testAngleWraps() {
+    TurtleStore store = new TurtleStore();
+    store.addTurtlesUpTo(1);
+    assertEquals(350, store.setAngle(1, -10));
+    assertEquals(20, store.setAngle(1, 740));
+    assertEquals(20, store.getAngle(1));
+  }
+
+  @Test
+  void testBatchMovesOnlyGivenTurtles() {
+    TurtleStore store = new TurtleStore();
+    store.addTurtlesUpTo(4);
+    store.setAngle(3, 0);
+    int[] IDs = {1, 3};
+    store.moveForward(IDs, 10);
+    assertEquals(10, store.getYPosition(1), 1e-9);
+    assertEquals(10, store.getXPosition(3), 1e-9);
+    assertEquals(0, store.getYPosition(2));
+    store.rotateCounterClockwise(IDs, -100);
+    assertEquals(350, store.getAngle(1));
+    assertEquals(260, store.getAngle(3));
+    assertEquals(90, store.getAngle(4));
+    store.setPosition(new int[]{2, 4}, 5, 6);
+    assertEquals(5, store.getXPosition(4));
+    assertEquals(10, store.getYPosition(1), 1e-9);
+  }
+}
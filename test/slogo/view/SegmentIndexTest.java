@@ -0,0 +1,76 @@
+package slogo.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the pen stroke index finds every stroke crossing an area, the same as checking every
+ * stroke would
+ */
+public class SegmentIndexTest {
+
+  @Test
+  void testFindsStrokesInArea() {
+    SegmentIndex segments = new SegmentIndex(10);
+    segments.add(0, 0, 100, 100, Color.BLACK, 1);
+    segments.add(0, 100, 100, 100, Color.RED, 1);
+    segments.add(55, 5, 95, 45, Color.BLACK, 1);
+    segments.add(-500, 50, 500, 50, Color.BLACK, 1);
+    assertEquals(List.of(3), search(segments, 12, 40, 28, 58));
+    assertEquals(List.of(1), search(segments, 40, 95, 60, 105));
+    assertEquals(List.of(2, 3), search(segments, 81, 30, 99, 50));
+    assertEquals(List.of(), search(segments, 200, 200, 300, 300));
+  }
+
+  @Test
+  void testMatchesFullScan() {
+    SegmentIndex segments = new SegmentIndex(16);
+    Random random = new Random(308);
+    for (int i = 0; i < 5000; i++) {
+      double x = random.nextDouble() * 600;
+      double y = random.nextDouble() * 600;
+      segments.add(x, y, x + random.nextGaussian() * 40, y + random.nextGaussian() * 40,
+          Color.BLACK, 1);
+    }
+    for (int i = 0; i < 50; i++) {
+      double x = random.nextDouble() * 600;
+      double y = random.nextDouble() * 600;
+      List<Integer> found = search(segments, x, y, x + 50, y + 30);
+      for (int segment = 0; segment < segments.size(); segment++) {
+        if (crosses(segments, segment, x, y, x + 50, y + 30)) {
+          assertTrue(found.contains(segment), "missed " + segment);
+        }
+      }
+    }
+    segments.clear();
+    assertEquals(List.of(), search(segments, 0, 0, 600, 600));
+  }
+
+  private List<Integer> search(SegmentIndex segments, double minX, double minY, double maxX,
+      double maxY) {
+    List<Integer> found = new ArrayList<>();
+    segments.forEachIn(minX, minY, maxX, maxY, found::add);
+    return found;
+  }
+
+  // samples points along the stroke to see if any of them is in the rectangle
+  private boolean crosses(SegmentIndex segments, int segment, double minX, double minY,
+      double maxX, double maxY) {
+    for (int step = 0; step <= 1000; step++) {
+      double x = segments.getStartX(segment)
+          + (segments.getEndX(segment) - segments.getStartX(segment)) * step / 1000;
+      double y = segments.getStartY(segment)
+          + (segments.getEndY(segment) - segments.getStartY(segment)) * step / 1000;
+      if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,71 @@
+package slogo.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ResourceBundle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the turtle update queue gives back updates and their values in the order they were
+ * added, including after it wraps around and grows
+ */
+public class TurtleEventQueueTest {
+
+  @Test
+  void testWrapAndGrow() {
+    TurtleEventQueue events = new TurtleEventQueue();
+    for (int i = 0; i < 1000; i++) {
+      events.add(TurtleEventQueue.POSITION, i, -i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(TurtleEventQueue.POSITION, events.next());
+      assertEquals(i, events.nextValue());
+      assertEquals(-i, events.nextValue());
+    }
+    for (int i = 0; i < 5000; i++) {
+      events.add(TurtleEventQueue.ANGLE, i);
+      events.add(TurtleEventQueue.POSITION, i, i + 1);
+    }
+    for (int i = 0; i < 5000; i++) {
+      assertEquals(TurtleEventQueue.ANGLE, events.next());
+      assertEquals(i, events.nextValue());
+      assertEquals(TurtleEventQueue.POSITION, events.next());
+      assertEquals(i, events.nextValue());
+      assertEquals(i + 1, events.nextValue());
+    }
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  void testShapeKeepsProgramOrder() {
+    TurtleEventQueue events = new TurtleEventQueue();
+    events.add(TurtleEventQueue.POSITION, 0, 100);
+    events.add(TurtleEventQueue.SHAPE, 2);
+    events.add(TurtleEventQueue.ANGLE, 0);
+    assertEquals(TurtleEventQueue.POSITION, events.next());
+    assertEquals(0, events.nextValue());
+    assertEquals(100, events.nextValue());
+    assertEquals(TurtleEventQueue.SHAPE, events.next());
+    assertEquals(2, events.nextValue());
+    assertEquals(TurtleEventQueue.ANGLE, events.next());
+    assertEquals(0, events.nextValue());
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  void testEveryTypeHasAnAction() {
+    ResourceBundle actions = ResourceBundle.getBundle(TurtleDisplayPane.UPDATE_NEXT_RESOURCE);
+    for (int opcode = 0; opcode < TurtleEventQueue.OPCODE_COUNT; opcode++) {
+      assertTrue(actions.containsKey(TurtleEventQueue.typeOf(opcode)));
+    }
+    assertEquals("updateShape", actions.getString("Shape"));
+  }
+
+  @Test
+  void testTypeNames() {
+    assertEquals(TurtleEventQueue.SET_ID, TurtleEventQueue.opcodeOf("SetID"));
+    assertEquals("Positions", TurtleEventQueue.typeOf(TurtleEventQueue.POSITION));
+    assertEquals(-1, TurtleEventQueue.opcodeOf("PenColor"));
+  }
+}
@@ -1,18 +1,24 @@
 package slogo.view;
 
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Button;
 import javafx.scene.control.ColorPicker;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.TextArea;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Line;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
+import org.testfx.util.WaitForAsyncUtils;
 
 import slogo.Main;
 import util.DukeApplicationTest;
@@ -85,12 +91,51 @@ public class viewTest extends DukeApplicationTest {
     ColorPicker penColorPicker = lookup("#PenColorPicker").query();
     setValue(penColorPicker, Color.DEEPPINK);
 
+    ImageView turtle = lookup("#Turtle").query();
+    Point2D start = turtleCenter(turtle);
     writeTo(codeInputBox, "forward 100");
     clickOn(runButton);
+    Point2D end = waitForTurtleToStop(turtle);
+
+    Set<Canvas> tiles = lookup(".PenTile").queryAll();
+    int checked = 0;
+    for (Canvas tile : tiles) {
+      WritableImage[] snapshot = new WritableImage[1];
+      javafxRun(() -> snapshot[0] = tile.snapshot(null, null));
+      PixelReader pixels = snapshot[0].getPixelReader();
+      for (double step = 0.1; step < 1; step += 0.1) {
+        Point2D point = tile.sceneToLocal(start.interpolate(end, step));
+        int x = (int) point.getX();
+        int y = (int) point.getY();
+        if (x >= 0 && y >= 0 && x < snapshot[0].getWidth() && y < snapshot[0].getHeight()) {
+          Color drawn = pixels.getColor(x, y);
+          assertEquals(Color.DEEPPINK.getRed(), drawn.getRed(), 0.05);
+          assertEquals(Color.DEEPPINK.getGreen(), drawn.getGreen(), 0.05);
+          assertEquals(Color.DEEPPINK.getBlue(), drawn.getBlue(), 0.05);
+          checked++;
+        }
+      }
+    }
+    assertTrue(checked > 0);
+  }
+
+  // finds the center of the turtle in scene coordinates, where the line is drawn from
+  private Point2D turtleCenter(ImageView turtle) {
+    return turtle.localToScene(turtle.getX() + turtle.getFitWidth() / 2,
+        turtle.getY() + turtle.getFitHeight() / 2);
+  }
 
-    Line line = lookup("#Line").query();
-    Paint fill = line.getStroke();
-    assertEquals(Color.DEEPPINK.toString(), fill.toString());
+  // waits for the turtle to finish moving, and gives back where it stopped
+  private Point2D waitForTurtleToStop(ImageView turtle) {
+    Point2D previous = null;
+    Point2D current = turtleCenter(turtle);
+    for (int i = 0; i < 50 && !current.equals(previous); i++) {
+      WaitForAsyncUtils.sleep(100, TimeUnit.MILLISECONDS);
+      WaitForAsyncUtils.waitForFxEvents();
+      previous = current;
+      current = turtleCenter(turtle);
+    }
+    return current;
   }
 
   @Test